@@ -0,0 +1,165 @@
+package br.com.projetei.api.cache;
+
+import br.com.projetei.api.dto.ProjectBoardDTO;
+import br.com.projetei.api.dto.ProjectDetailsDTO;
+import br.com.projetei.api.model.Project;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+// Cache em memória dos quadros (projeto + tarefas + checklists + comentários).
+// É limitado por tamanho e por tempo de vida, e invalidado pelos serviços sempre que
+// algo do projeto muda. As métricas (hits, misses, evictions) ficam em /actuator/metrics/cache.*
+// Guarda só DTOs imutáveis, montados pelo carregamento: nunca entidades, que pertencem ao
+// contexto de persistência (e à thread) de quem as carregou.
+//
+// Também faz o "single-flight": se várias requisições pedem o mesmo quadro ao mesmo tempo,
+// só a primeira vai ao banco; as demais esperam (até o timeout configurado) pelo mesmo resultado.
+@Component
+public class ProjectBoardCache {
+
+    private final AsyncCache<String, ProjectDetailsDTO> boardsByCode;
+    private final AsyncCache<Long, ProjectDetailsDTO> boardsById;
+    private final AsyncCache<Long, ProjectBoardDTO> summariesById;
+
+    private final Duration coalescingTimeout;
+    private final Counter leaderLoads;
+    private final Counter coalescedLoads;
+    private final Counter timedOutWaits;
+
+    public ProjectBoardCache(
+            MeterRegistry meterRegistry,
+            @Value("${projetei.cache.boards.max-size:500}") long maxSize,
+            @Value("${projetei.cache.boards.ttl:5m}") Duration ttl,
+            @Value("${projetei.cache.boards.coalescing-timeout:2s}") Duration coalescingTimeout) {
+        this.boardsByCode = newCache(maxSize, ttl);
+        this.boardsById = newCache(maxSize, ttl);
+        this.summariesById = newCache(maxSize, ttl);
+        this.coalescingTimeout = coalescingTimeout;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, boardsByCode.synchronous(), "projectBoardsByCode");
+        CaffeineCacheMetrics.monitor(meterRegistry, boardsById.synchronous(), "projectBoardsById");
+        CaffeineCacheMetrics.monitor(meterRegistry, summariesById.synchronous(), "projectBoardSummaries");
+
+        this.leaderLoads = loadsCounter(meterRegistry, "leader");
+        this.coalescedLoads = loadsCounter(meterRegistry, "coalesced");
+        this.timedOutWaits = loadsCounter(meterRegistry, "timeout");
+    }
+
+    private static <K, V> AsyncCache<K, V> newCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    private static Counter loadsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("projetei.boards.loads")
+                .description("Carregamentos de quadro no cache miss: quem foi ao banco (leader), quem aproveitou uma carga em andamento (coalesced) e quem desistiu de esperar (timeout)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public ProjectDetailsDTO getByCode(String code, Function<String, ProjectDetailsDTO> loader) {
+        return getOrLoad(boardsByCode, code, loader);
+    }
+
+    public ProjectDetailsDTO getById(Long projectId, Function<Long, ProjectDetailsDTO> loader) {
+        return getOrLoad(boardsById, projectId, loader);
+    }
+
+    public ProjectBoardDTO getSummary(Long projectId, Function<Long, ProjectBoardDTO> loader) {
+        return getOrLoad(summariesById, projectId, loader);
+    }
+
+    private <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached == null) {
+            // Tenta virar o "leader": quem registra o future carrega na própria thread.
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(key, mine);
+            if (cached == null) {
+                leaderLoads.increment();
+                return loadAndComplete(mine, key, loader);
+            }
+        }
+
+        if (!cached.isDone()) {
+            coalescedLoads.increment();
+        }
+        return join(cached, key, loader);
+    }
+
+    private <K, V> V loadAndComplete(CompletableFuture<V> future, K key, Function<K, V> loader) {
+        try {
+            V value = loader.apply(key);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            // Um future com erro é removido automaticamente pelo Caffeine (nada de cache de erro).
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <K, V> V join(CompletableFuture<V> future, K key, Function<K, V> loader) {
+        try {
+            return future.get(coalescingTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A carga em andamento está lenta demais: carrega por conta própria, sem mexer no cache.
+            timedOutWaits.increment();
+            return loader.apply(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o carregamento do quadro", e);
+        }
+    }
+
+    // Remove as entradas do projeto agora e novamente após o commit: uma leitura concorrente
+    // que rodar antes do commit não consegue deixar a versão antiga no cache.
+    // Uma carga em andamento também é descartada: o resultado dela não volta para o cache.
+    public void evict(Project project) {
+        evict(project.getId(), project.getCode());
+    }
+
+    public void evict(Long projectId, String code) {
+        invalidate(projectId, code);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(projectId, code);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long projectId, String code) {
+        if (code != null) {
+            boardsByCode.synchronous().invalidate(code);
+        }
+        if (projectId != null) {
+            boardsById.synchronous().invalidate(projectId);
+            summariesById.synchronous().invalidate(projectId);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.projetei.api.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+// CacheManager do cache de segundo nível do Hibernate (regiões em hibernate-cache.conf).
+// O Caffeine devolve o mesmo CacheManager para o mesmo par (URI, ClassLoader) na JVM inteira;
+// com dois contextos do Spring na mesma JVM (os testes), cada um com o seu banco, um leria as
+// entidades que o outro deixou no cache. Por isso cada contexto cria o seu, com um ClassLoader
+// próprio (que só delega ao da aplicação). O Caffeine guarda esse ClassLoader numa referência
+// fraca, então ele fica num campo desta configuração enquanto o contexto existir. O Hibernate
+// fecha o CacheManager ao encerrar.
+@Configuration
+public class SecondLevelCacheConfig {
+
+    static final URI REGIONS = URI.create("classpath:hibernate-cache.conf");
+
+    private final ClassLoader cacheOwner = new ClassLoader(getClass().getClassLoader()) {
+    };
+
+    @Bean
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager(REGIONS, cacheOwner);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+}
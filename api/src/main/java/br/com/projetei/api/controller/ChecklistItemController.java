@@ -1,5 +1,6 @@
 package br.com.projetei.api.controller;
 
+import br.com.projetei.api.dto.ConflictDTO;
 import br.com.projetei.api.dto.UpdateChecklistItemDTO;
 import br.com.projetei.api.model.ChecklistItem;
 import br.com.projetei.api.service.TaskService;
@@ -29,7 +30,9 @@ public class ChecklistItemController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Item atualizado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChecklistItem.class))),
-            @ApiResponse(responseCode = "404", description = "Item de checklist não encontrado para o ID informado")
+            @ApiResponse(responseCode = "404", description = "Item de checklist não encontrado para o ID informado"),
+            @ApiResponse(responseCode = "409", description = "Alterada ao mesmo tempo por outra requisição; o corpo traz a tarefa atual",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConflictDTO.class)))
     })
     @PatchMapping("/{itemId}")
     public ResponseEntity<ChecklistItem> updateChecklistItem(
@@ -42,7 +45,9 @@ public class ChecklistItemController {
     @Operation(summary = "Exclui um item de checklist", description = "Exclui um item de checklist. A exclusão recalcula automaticamente o status da tarefa pai.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Item de checklist excluído com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Item de checklist não encontrado para o ID informado")
+            @ApiResponse(responseCode = "404", description = "Item de checklist não encontrado para o ID informado"),
+            @ApiResponse(responseCode = "409", description = "Alterada ao mesmo tempo por outra requisição; o corpo traz a tarefa atual",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConflictDTO.class)))
     })
     @DeleteMapping("/{itemId}")
     public ResponseEntity<Void> deleteChecklistItem(
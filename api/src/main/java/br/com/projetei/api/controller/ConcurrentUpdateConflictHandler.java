@@ -0,0 +1,19 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.dto.ConflictDTO;
+import br.com.projetei.api.service.ConcurrentUpdateConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// Escritas concorrentes que não se resolveram com as novas tentativas do serviço viram 409,
+// com o estado atual do recurso para o cliente reconciliar.
+@RestControllerAdvice
+public class ConcurrentUpdateConflictHandler {
+
+    @ExceptionHandler(ConcurrentUpdateConflictException.class)
+    public ResponseEntity<ConflictDTO> handleConflict(ConcurrentUpdateConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ConflictDTO(e.getMessage(), e.getCurrentState()));
+    }
+}
@@ -8,31 +8,100 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import br.com.projetei.api.dto.BulkChecklistItemOperationDTO;
+import br.com.projetei.api.dto.BulkResultDTO;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.dto.ExportLineDTO;
+import br.com.projetei.api.dto.ProjectBoardDTO;
+import br.com.projetei.api.dto.ProjectChangesDTO;
+import br.com.projetei.api.dto.ProjectDetailsDTO;
+import br.com.projetei.api.dto.ProjectHeaderDTO;
+import br.com.projetei.api.dto.ProjectStatsDTO;
+import br.com.projetei.api.dto.ProjectSummariesRequestDTO;
+import br.com.projetei.api.dto.ProjectSummaryDTO;
+import br.com.projetei.api.dto.TaskCursor;
+import br.com.projetei.api.dto.TaskFilter;
 import br.com.projetei.api.dto.UpdateProjectDTO;
+import br.com.projetei.api.metrics.SqlStatementBudget;
 import org.springframework.web.bind.annotation.PatchMapping;
 import br.com.projetei.api.model.Project;
 import br.com.projetei.api.model.Task; // Adicione esta importação
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskSortKey;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.realtime.BoardEventHub;
+import br.com.projetei.api.service.BulkTaskService;
+import br.com.projetei.api.service.ProjectChangeFeedService;
 import br.com.projetei.api.service.ProjectService;
+import br.com.projetei.api.service.ProjectStatsService;
+import br.com.projetei.api.service.ProjectTransferService;
 import br.com.projetei.api.service.TaskService; // Adicione esta importação
+import jakarta.persistence.EntityNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List; // Verifique se esta importação está aqui
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/projects")
 @Tag(name = "Projetos", description = "Endpoints para gerenciamento de projetos")
-@CrossOrigin(origins = "http://localhost:5173")
+@CrossOrigin(origins = "http://localhost:5173", exposedHeaders = ProjectController.NEXT_CURSOR_HEADER)
 public class ProjectController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_CHANGES_LIMIT = 500;
+    private static final int MAX_CHANGES_LIMIT = 2000;
+    private static final int MAX_TASKS_PAGE_SIZE = 500;
+    private static final int DEFAULT_STATS_DAYS = 30;
+    private static final int MAX_STATS_DAYS = 366;
+    private static final int MAX_SUMMARIES = 200;
+
     private final ProjectService projectService;
     private final TaskService taskService; // 1. Adicionamos a referência ao TaskService
+    private final ProjectChangeFeedService changeFeedService;
+    private final BoardEventHub boardEvents;
+    private final BulkTaskService bulkTaskService;
+    private final ProjectTransferService projectTransferService;
+    private final ProjectStatsService projectStatsService;
+    private final ObjectMapper objectMapper;
+    private final int maxBulkOperations;
 
     // 2. Atualizamos o construtor para receber ambos os serviços
-    public ProjectController(ProjectService projectService, TaskService taskService) {
+    public ProjectController(ProjectService projectService, TaskService taskService,
+                             ProjectChangeFeedService changeFeedService, BoardEventHub boardEvents,
+                             BulkTaskService bulkTaskService, ProjectTransferService projectTransferService,
+                             ProjectStatsService projectStatsService, ObjectMapper objectMapper,
+                             @Value("${projetei.bulk.max-operations:2000}") int maxBulkOperations) {
         this.projectService = projectService;
         this.taskService = taskService;
+        this.changeFeedService = changeFeedService;
+        this.boardEvents = boardEvents;
+        this.bulkTaskService = bulkTaskService;
+        this.projectTransferService = projectTransferService;
+        this.projectStatsService = projectStatsService;
+        this.objectMapper = objectMapper;
+        this.maxBulkOperations = maxBulkOperations;
     }
 
     // --- Endpoints de Projeto ---
@@ -49,14 +118,92 @@ public class ProjectController {
         return new ResponseEntity<>(createdProject, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Lista todos os projetos", description = "Retorna uma lista com todos os projetos cadastrados no banco de dados.")
+    @Operation(summary = "Lista os projetos (paginado)", description = "Retorna uma página de projetos ordenados por ID. Quando existem mais projetos, o cabeçalho X-Next-Cursor traz o valor a ser enviado em 'after' para buscar a próxima página.")
     @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
             content = @Content(mediaType = "application/json",
                     array = @ArraySchema(schema = @Schema(implementation = Project.class))))
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects() {
-        List<Project> projects = projectService.findAllProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<List<Project>> getAllProjects(
+            @Parameter(description = "ID do último projeto da página anterior") @RequestParam(required = false) Long after,
+            @Parameter(description = "Quantidade máxima de projetos na página (até " + MAX_PAGE_SIZE + ")") @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Project> projects = projectService.findProjectsPage(after, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (projects.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(projects.get(projects.size() - 1).getId()));
+        }
+        return response.body(projects);
+    }
+
+    @Operation(summary = "Busca os resumos de vários projetos", description = "Recebe IDs e/ou códigos (até " + MAX_SUMMARIES + " no total) e retorna, para cada projeto encontrado, o nome, o código, a descrição, a data de entrega e a contagem de tarefas por status, em ordem de ID. Uma única consulta sobre os contadores já agregados, sem carregar as tarefas: o custo não depende do tamanho dos projetos. Projetos inexistentes são ignorados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumos retornados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ProjectSummaryDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Mais de " + MAX_SUMMARIES + " projetos na requisição")
+    })
+    @PostMapping("/summaries")
+    public ResponseEntity<List<ProjectSummaryDTO>> getProjectSummaries(@RequestBody ProjectSummariesRequestDTO request) {
+        List<Long> ids = request.ids() == null ? List.of() : request.ids().stream().filter(Objects::nonNull).distinct().toList();
+        List<String> codes = request.codes() == null ? List.of() : request.codes().stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() + codes.size() > MAX_SUMMARIES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A requisição deve ter no máximo " + MAX_SUMMARIES + " projetos");
+        }
+        return ResponseEntity.ok(projectStatsService.findSummaries(ids, codes));
+    }
+
+    @Operation(summary = "Exporta a lista de projetos em NDJSON", description = "Com 'Accept: application/x-ndjson', transmite um projeto por linha (id, nome, código e data de entrega) direto de um cursor do banco, com uso de memória constante.")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
+            content = @Content(mediaType = APPLICATION_NDJSON, schema = @Schema(implementation = ProjectHeaderDTO.class)))
+    @GetMapping(produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllProjects() {
+        StreamingResponseBody body = out -> projectService.forEachProject(project -> {
+            ProjectHeaderDTO line = new ProjectHeaderDTO(project.getId(), project.getName(), project.getCode(), project.getDueDate(), project.getRevision());
+            try {
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON)).body(body);
+    }
+
+    @Operation(summary = "Exporta um projeto completo em NDJSON", description = "Transmite o projeto, as tarefas, os itens de checklist e os comentários, um por linha (o campo 'type' diz qual), direto de cursores do banco, com uso de memória constante. Cada tarefa vem seguida dos seus itens e comentários. O arquivo pode ser importado em POST /api/projects/import.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
+                    content = @Content(mediaType = APPLICATION_NDJSON, schema = @Schema(implementation = ExportLineDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado")
+    })
+    @GetMapping(value = "/{projectId}/export", produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportProject(@PathVariable Long projectId) {
+        // Confere antes de começar a resposta: depois do primeiro byte não dá mais para responder 404.
+        projectService.findProjectRevisionById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
+        StreamingResponseBody body = out -> projectTransferService.exportProject(projectId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projeto-" + projectId + ".ndjson\"")
+                .body(body);
+    }
+
+    @Operation(summary = "Importa um projeto em NDJSON", description = "Recebe o formato de GET /api/projects/{id}/export e cria um novo projeto, com um novo código, lendo o corpo linha a linha e gravando as tarefas em lotes. Se alguma linha for inválida, nada fica gravado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Projeto importado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectHeaderDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido")
+    })
+    @SqlStatementBudget(SqlStatementBudget.UNLIMITED)
+    @PostMapping(value = "/import", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<ProjectHeaderDTO> importProject(InputStream body) throws IOException {
+        try {
+            return new ResponseEntity<>(projectTransferService.importProject(body), HttpStatus.CREATED);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Linha inválida: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     // --- Endpoint de Tarefa ---
@@ -77,37 +224,202 @@ public class ProjectController {
         return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Lista as tarefas de um projeto", description = "Retorna uma lista de todas as tarefas associadas a um projeto específico, identificado pelo seu ID.")
-    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
-            content = @Content(mediaType = "application/json",
-                    array = @ArraySchema(schema = @Schema(implementation = Task.class))))
+    @Operation(summary = "Cria, altera, move ou exclui várias tarefas de uma vez", description = "Aplica uma lista de operações (op = CREATE, UPDATE, STATUS ou DELETE) às tarefas do projeto numa única transação. CREATE aceita também os textos do checklist. Operações inválidas ou de tarefas inexistentes não interrompem as demais: cada uma recebe o seu resultado, na mesma ordem da requisição.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja o resultado de cada operação",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite de operações"),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado"),
+            @ApiResponse(responseCode = "409", description = "Conflito com escritas concorrentes mesmo após novas tentativas; nada foi aplicado")
+    })
+    @SqlStatementBudget(SqlStatementBudget.UNLIMITED)
+    @PostMapping("/{projectId}/tasks/bulk")
+    public ResponseEntity<BulkResultDTO> applyTaskOperations(
+            @PathVariable Long projectId,
+            @RequestBody List<BulkTaskOperationDTO> operations) {
+        checkBulkSize(operations);
+        return ResponseEntity.ok(bulkTaskService.applyTaskOperations(projectId, operations));
+    }
+
+    @Operation(summary = "Cria, altera ou exclui vários itens de checklist de uma vez", description = "Aplica uma lista de operações (op = CREATE, UPDATE ou DELETE) aos itens de checklist das tarefas do projeto numa única transação. O status de cada tarefa afetada é recalculado uma única vez, no fim do lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja o resultado de cada operação",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite de operações"),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado"),
+            @ApiResponse(responseCode = "409", description = "Conflito com escritas concorrentes mesmo após novas tentativas; nada foi aplicado")
+    })
+    @SqlStatementBudget(SqlStatementBudget.UNLIMITED)
+    @PostMapping("/{projectId}/checklist-items/bulk")
+    public ResponseEntity<BulkResultDTO> applyChecklistItemOperations(
+            @PathVariable Long projectId,
+            @RequestBody List<BulkChecklistItemOperationDTO> operations) {
+        checkBulkSize(operations);
+        return ResponseEntity.ok(bulkTaskService.applyChecklistItemOperations(projectId, operations));
+    }
+
+    private void checkBulkSize(List<?> operations) {
+        if (operations == null || operations.isEmpty() || operations.size() > maxBulkOperations) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "O lote deve ter entre 1 e " + maxBulkOperations + " operações");
+        }
+    }
+
+    @Operation(summary = "Lista as tarefas de um projeto (com filtros)", description = "Sem parâmetros, retorna todas as tarefas do projeto. Os filtros (status, prioridade, faixa de prazo, atrasadas, com itens de checklist pendentes) e a ordenação ('sort=dueDate,desc', por exemplo) rodam no banco. Com 'limit', a resposta é paginada: quando existem mais tarefas, o cabeçalho X-Next-Cursor traz o valor a ser enviado em 'after' (com os mesmos filtros e a mesma ordenação) para buscar a próxima página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = Task.class)))),
+            @ApiResponse(responseCode = "400", description = "Filtro, ordenação ou cursor inválido")
+    })
     @GetMapping("/{projectId}/tasks")
-    public ResponseEntity<List<Task>> getTasksByProjectId(@PathVariable Long projectId) {
-        List<Task> tasks = taskService.findAllByProjectId(projectId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<Task>> getTasksByProjectId(
+            @PathVariable Long projectId,
+            @Parameter(description = "Status aceitos (ex.: status=TODO,DOING)") @RequestParam(required = false) Set<TaskStatus> status,
+            @Parameter(description = "Prioridades aceitas (ex.: priority=HIGH)") @RequestParam(required = false) Set<TaskPriority> priority,
+            @Parameter(description = "Prazo a partir de (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @Parameter(description = "Prazo até (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @Parameter(description = "true: só as atrasadas (prazo vencido e não concluídas); false: só as que não estão atrasadas") @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "true: só as que têm item de checklist desmarcado; false: só as sem pendências") @RequestParam(required = false) Boolean hasUncheckedChecklist,
+            @Parameter(description = "Ordenação: id, dueDate, priority ou title, opcionalmente seguida de ',desc'") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Cursor (X-Next-Cursor) da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de tarefas na página (até " + MAX_TASKS_PAGE_SIZE + ")") @RequestParam(required = false) Integer limit) {
+        TaskFilter filter = new TaskFilter(status, priority, dueFrom, dueTo, overdue, hasUncheckedChecklist);
+        if (filter.isEmpty() && "id".equals(sort) && after == null && limit == null) {
+            return ResponseEntity.ok(taskService.findAllByProjectId(projectId));
+        }
+
+        String[] sortParts = sort.split(",", 2);
+        boolean descending = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim());
+        TaskSortKey sortKey;
+        TaskCursor cursor = null;
+        try {
+            sortKey = TaskSortKey.fromParam(sortParts[0].trim());
+            if (after != null && !after.isBlank()) {
+                cursor = TaskCursor.parse(after);
+                if (!cursor.matches(sortKey, descending)) {
+                    throw new IllegalArgumentException("O cursor é de outra ordenação");
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        Integer pageSize = limit == null ? null : Math.max(1, Math.min(limit, MAX_TASKS_PAGE_SIZE));
+        List<Task> tasks = taskService.findTasks(projectId, filter, sortKey, descending, cursor, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (pageSize != null && tasks.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, TaskCursor.after(tasks.get(tasks.size() - 1), sortKey, descending).toString());
+        }
+        return response.body(tasks);
     }
 
     @Operation(summary = "Busca um projeto por ID", description = "Retorna um único projeto baseado na sua chave primária.")
     @ApiResponse(responseCode = "200", description = "Projeto encontrado com sucesso",
             content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Project.class)))
+                    schema = @Schema(implementation = ProjectDetailsDTO.class)))
     @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado")
+    @ApiResponse(responseCode = "304", description = "Projeto não mudou desde o ETag enviado em If-None-Match")
     @GetMapping("/{projectId}")
-    public ResponseEntity<Project> getProjectById(@PathVariable Long projectId) {
-        Project project = projectService.findProjectById(projectId);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectDetailsDTO> getProjectById(@PathVariable Long projectId, WebRequest request) {
+        // GET condicional: se o cliente já tem a revisão atual, responde 304 sem carregar o grafo.
+        Optional<Long> revision = projectService.findProjectRevisionById(projectId);
+        if (revision.isPresent() && request.checkNotModified(projectETag(projectId, revision.get()))) {
+            return null;
+        }
+        ProjectDetailsDTO project = projectService.findProjectBoardById(projectId);
+        return ResponseEntity.ok().eTag(projectETag(project.id(), project.revision())).body(project);
+    }
+
+    @Operation(summary = "Busca o quadro resumido de um projeto", description = "Retorna apenas os dados exibidos nos cartões do Kanban (título, status, prioridade, data de entrega e progresso do checklist). Os detalhes de cada tarefa são obtidos em GET /api/tasks/{taskId}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quadro encontrado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectBoardDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado")
+    })
+    @ApiResponse(responseCode = "304", description = "Quadro não mudou desde o ETag enviado em If-None-Match")
+    @GetMapping("/{projectId}/board")
+    public ResponseEntity<ProjectBoardDTO> getProjectBoard(@PathVariable Long projectId, WebRequest request) {
+        Optional<Long> revision = projectService.findProjectRevisionById(projectId);
+        if (revision.isPresent() && request.checkNotModified(boardETag(projectId, revision.get()))) {
+            return null;
+        }
+        ProjectBoardDTO board = projectService.findProjectBoardSummary(projectId);
+        return ResponseEntity.ok().eTag(boardETag(board.id(), board.revision())).body(board);
+    }
+
+    @Operation(summary = "Lista as alterações de um projeto desde um cursor", description = "Retorna apenas as tarefas, itens de checklist e comentários criados, alterados ou excluídos (tombstones) depois do cursor 'since'. Comece com since=0 (ou com a 'revision' do projeto já carregado) e envie o 'cursor' da resposta na próxima chamada. O change log guarda só os últimos dias (projetei.changes.retention): com um cursor mais antigo, a resposta vem com resyncRequired = true e o quadro deve ser recarregado por inteiro.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectChangesDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado")
+    })
+    @GetMapping("/{projectId}/changes")
+    public ResponseEntity<ProjectChangesDTO> getProjectChanges(
+            @PathVariable Long projectId,
+            @Parameter(description = "Cursor (revisão do projeto) da última sincronização") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Quantidade máxima de alterações na resposta (até " + MAX_CHANGES_LIMIT + ")") @RequestParam(defaultValue = "" + DEFAULT_CHANGES_LIMIT) int limit) {
+        int maxEntries = Math.max(1, Math.min(limit, MAX_CHANGES_LIMIT));
+        ProjectChangesDTO changes = changeFeedService.findChangesSince(projectId, since, maxEntries);
+        return ResponseEntity.ok(changes);
+    }
+
+    @Operation(summary = "Busca os indicadores de um projeto", description = "Retorna as tarefas por status e por prioridade, as atrasadas, o progresso dos checklists e a série diária (fluxo cumulativo e burndown) dos últimos 'days' dias até hoje. Os valores vêm de agregados atualizados junto com as tarefas, numa única consulta, sem ler as tarefas do projeto.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Indicadores retornados com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectStatsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID informado")
+    })
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<ProjectStatsDTO> getProjectStats(
+            @PathVariable Long projectId,
+            @Parameter(description = "Dias de histórico antes de hoje (até " + MAX_STATS_DAYS + ")") @RequestParam(defaultValue = "" + DEFAULT_STATS_DAYS) int days) {
+        int historyDays = Math.max(0, Math.min(days, MAX_STATS_DAYS));
+        return ResponseEntity.ok(projectStatsService.findStats(projectId, historyDays));
     }
 
     @Operation(summary = "Busca um projeto pelo seu código único", description = "Retorna um único projeto baseado no seu código de acesso.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Projeto encontrado com sucesso",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Project.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectDetailsDTO.class))),
             @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o Código informado")
     })
+    @ApiResponse(responseCode = "304", description = "Projeto não mudou desde o ETag enviado em If-None-Match")
     @GetMapping("/by-code/{code}")
-    public ResponseEntity<Project> getProjectByCode(@PathVariable String code) {
-        Project project = projectService.findProjectByCode(code);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectDetailsDTO> getProjectByCode(@PathVariable String code, WebRequest request) {
+        Optional<Long> revision = projectService.findProjectRevisionByCode(code);
+        if (revision.isPresent() && request.checkNotModified(codeETag(code, revision.get()))) {
+            return null;
+        }
+        ProjectDetailsDTO project = projectService.findProjectBoardByCode(code);
+        return ResponseEntity.ok().eTag(codeETag(project.code(), project.revision())).body(project);
+    }
+
+    @Operation(summary = "Acompanha um quadro em tempo real (Server-Sent Events)", description = "Mantém a conexão aberta e envia, logo após cada commit, mudanças de status de tarefas, itens de checklist marcados/desmarcados e novos comentários. O primeiro evento ('ready') traz a revisão atual; os seguintes ('board') trazem lotes de alterações e a revisão correspondente. Os lotes não trazem as demais alterações (edições, criações e exclusões), então a revisão deles não serve de cursor: use GET /api/projects/{id}/changes?since=<revisão do quadro ou do último delta carregado> para recuperar o resto.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o Código informado")
+    })
+    @GetMapping(value = "/by-code/{code}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProjectEvents(@PathVariable String code) {
+        long revision = projectService.findProjectRevisionByCode(code)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o Código: " + code));
+        return boardEvents.subscribe(code, revision);
+    }
+
+    // ETags fortes derivados da revisão do projeto. O ETag da resposta 200 usa a revisão
+    // do próprio conteúdo entregue (que pode ter vindo do cache), nunca uma lida separadamente.
+    private static String projectETag(Long projectId, long revision) {
+        return "\"p" + projectId + "-r" + revision + "\"";
+    }
+
+    private static String boardETag(Long projectId, long revision) {
+        return "\"b" + projectId + "-r" + revision + "\"";
+    }
+
+    private static String codeETag(String code, long revision) {
+        return "\"c" + code + "-r" + revision + "\"";
     }
 
     @Operation(summary = "Exclui um projeto", description = "Exclui um projeto e todos os seus dados associados (tarefas, etc.) com base no seu ID.")
@@ -0,0 +1,84 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.dto.SearchHitDTO;
+import br.com.projetei.api.search.SearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Busca", description = "Busca textual em tarefas, itens de checklist e comentários")
+@CrossOrigin(origins = "http://localhost:5173", exposedHeaders = ProjectController.NEXT_CURSOR_HEADER)
+public class SearchController {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Resultados por relevância: além disso a busca precisa ser refinada, não paginada
+    private static final int MAX_RESULTS = 1000;
+
+    private final SearchIndex searchIndex;
+
+    public SearchController(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @Operation(summary = "Busca textual", description = "Procura o texto em títulos e descrições de tarefas, itens de checklist e comentários, do resultado mais relevante para o menos relevante. Aceita \"frase exata\", prefixo* e -exclusão; todas as palavras precisam aparecer. Quando existem mais resultados, o cabeçalho X-Next-Cursor traz o valor a ser enviado em 'after' para buscar a próxima página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SearchHitDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Busca vazia ou cursor inválido")
+    })
+    @GetMapping
+    public ResponseEntity<List<SearchHitDTO>> search(
+            @Parameter(description = "Texto procurado") @RequestParam String q,
+            @Parameter(description = "ID do projeto (opcional) para restringir a busca") @RequestParam(required = false) Long project,
+            @Parameter(description = "Cursor (X-Next-Cursor) da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de resultados na página (até " + MAX_PAGE_SIZE + ")") @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) throws IOException {
+        if (q.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe o texto da busca");
+        }
+        int offset = parseCursor(after);
+        int pageSize = Math.max(1, Math.min(limit, Math.min(MAX_PAGE_SIZE, MAX_RESULTS - offset)));
+        SearchIndex.Page page = searchIndex.search(q, project, offset, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        int next = offset + page.hits().size();
+        if (page.hasMore() && next < MAX_RESULTS) {
+            response.header(ProjectController.NEXT_CURSOR_HEADER, Integer.toString(next));
+        }
+        return response.body(page.hits());
+    }
+
+    // O cursor é a posição do próximo resultado no ranking.
+    private static int parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(after);
+            if (offset >= 0 && offset < MAX_RESULTS) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // cai no erro abaixo
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido: " + after);
+    }
+}
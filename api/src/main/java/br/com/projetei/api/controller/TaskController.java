@@ -1,18 +1,25 @@
 package br.com.projetei.api.controller;
 
+import br.com.projetei.api.dto.CommentChangeDTO;
+import br.com.projetei.api.dto.CommentCursor;
 import br.com.projetei.api.dto.CreateChecklistItemDTO;
 import br.com.projetei.api.model.ChecklistItem;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.PostMapping;
+import br.com.projetei.api.dto.ConflictDTO;
 import br.com.projetei.api.dto.CommentDTO;
 import br.com.projetei.api.model.Comment;
 import br.com.projetei.api.service.CommentService;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import br.com.projetei.api.model.Task;
 import br.com.projetei.api.service.TaskService;
 import org.springframework.http.ResponseEntity;
@@ -22,12 +29,18 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import br.com.projetei.api.dto.UpdateTaskStatusDTO;
 
+import java.util.List;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/tasks")
 @Tag(name = "Tarefas", description = "Endpoints para gerenciamento de tarefas")
-@CrossOrigin(origins = "http://localhost:5173")
+@CrossOrigin(origins = "http://localhost:5173", exposedHeaders = ProjectController.NEXT_CURSOR_HEADER)
 public class TaskController {
 
+    private static final int DEFAULT_COMMENTS_PAGE_SIZE = 50;
+    private static final int MAX_COMMENTS_PAGE_SIZE = 200;
+
     private final TaskService taskService;
     private final CommentService commentService; // 1. Nova injeção
 
@@ -42,12 +55,22 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Tarefa encontrada com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Task.class))),
+            @ApiResponse(responseCode = "304", description = "Tarefa não mudou desde o ETag enviado em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada para o ID informado")
     })
     @GetMapping("/{taskId}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long taskId, WebRequest request) {
+        // GET condicional: o ETag usa a revisão do projeto, lida por chave primária sem carregar a tarefa.
+        Optional<Long> revision = taskService.findProjectRevisionByTaskId(taskId);
+        if (revision.isPresent() && request.checkNotModified(taskETag(taskId, revision.get()))) {
+            return null;
+        }
         Task task = taskService.findTaskById(taskId);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(taskETag(task.getId(), task.getProject().getRevision())).body(task);
+    }
+
+    private static String taskETag(Long taskId, long projectRevision) {
+        return "\"t" + taskId + "-r" + projectRevision + "\"";
     }
 
     @Operation(summary = "Exclui uma tarefa", description = "Exclui uma tarefa existente com base no seu ID.")
@@ -61,6 +84,39 @@ public class TaskController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @Operation(summary = "Lista os comentários de uma tarefa (paginado)", description = "Retorna os comentários em ordem cronológica. A tarefa traz só o total (commentCount) e os mais recentes (latestComments); aqui vem a lista completa. Quando existem mais comentários, o cabeçalho X-Next-Cursor traz o valor a ser enviado em 'after' para buscar a próxima página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação bem-sucedida",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CommentChangeDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada para o ID informado")
+    })
+    @GetMapping("/{taskId}/comments")
+    public ResponseEntity<List<CommentChangeDTO>> getComments(
+            @PathVariable Long taskId,
+            @Parameter(description = "Cursor (X-Next-Cursor) da página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade máxima de comentários na página (até " + MAX_COMMENTS_PAGE_SIZE + ")") @RequestParam(defaultValue = "" + DEFAULT_COMMENTS_PAGE_SIZE) int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_COMMENTS_PAGE_SIZE));
+        List<CommentChangeDTO> comments = commentService.findCommentsPage(taskId, parseCursor(after), pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (comments.size() == pageSize) {
+            response.header(ProjectController.NEXT_CURSOR_HEADER, CommentCursor.after(comments.get(comments.size() - 1)).toString());
+        }
+        return response.body(comments);
+    }
+
+    private static CommentCursor parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return CommentCursor.parse(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @Operation(summary = "Adiciona um novo comentário a uma tarefa", description = "Cria um novo comentário e o associa a uma tarefa existente.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Comentário criado e associado com sucesso",
@@ -77,7 +133,9 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Item de checklist criado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChecklistItem.class))),
-            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada para o ID informado")
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada para o ID informado"),
+            @ApiResponse(responseCode = "409", description = "Alterada ao mesmo tempo por outra requisição; o corpo traz a tarefa atual",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConflictDTO.class)))
     })
     @PostMapping("/{taskId}/checklist-items")
     public ResponseEntity<ChecklistItem> addChecklistItem(
@@ -91,7 +149,9 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Task.class))),
-            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada para o ID informado")
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada para o ID informado"),
+            @ApiResponse(responseCode = "409", description = "Alterada ao mesmo tempo por outra requisição; o corpo traz a tarefa atual",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConflictDTO.class)))
     })
     @PatchMapping("/{taskId}")
     public ResponseEntity<Task> updateTask(
@@ -0,0 +1,46 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Uma alteração enviada pelo canal SSE do quadro. Só os campos do tipo correspondente vêm preenchidos.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BoardEventDTO(
+        Type type,
+        Long taskId,
+        TaskStatus status,
+        Long checklistItemId,
+        Boolean checked,
+        CommentChangeDTO comment
+) {
+
+    public enum Type { TASK_STATUS, CHECKLIST_ITEM, COMMENT_ADDED }
+
+    public static BoardEventDTO taskStatus(Task task) {
+        return new BoardEventDTO(Type.TASK_STATUS, task.getId(), task.getStatus(), null, null, null);
+    }
+
+    public static BoardEventDTO checklistItem(ChecklistItem item) {
+        return new BoardEventDTO(Type.CHECKLIST_ITEM, item.getTask().getId(), null, item.getId(), item.isChecked(), null);
+    }
+
+    public static BoardEventDTO commentAdded(Comment comment) {
+        CommentChangeDTO dto = new CommentChangeDTO(comment.getId(), comment.getTask().getId(),
+                comment.getText(), comment.getAuthorName(), comment.getCreatedAt());
+        return new BoardEventDTO(Type.COMMENT_ADDED, comment.getTask().getId(), null, null, null, dto);
+    }
+
+    // Eventos com a mesma chave se substituem quando chegam na mesma rajada (só o último estado importa).
+    @JsonIgnore
+    public String coalescingKey() {
+        return switch (type) {
+            case TASK_STATUS -> "t" + taskId;
+            case CHECKLIST_ITEM -> "i" + checklistItemId;
+            case COMMENT_ADDED -> "c" + comment.id();
+        };
+    }
+}
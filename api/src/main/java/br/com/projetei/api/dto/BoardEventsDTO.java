@@ -0,0 +1,14 @@
+package br.com.projetei.api.dto;
+
+import java.util.List;
+
+// Lote de alterações de um quadro enviado num único evento SSE. "revision" é a revisão do projeto
+// depois do último commit incluído. Não serve de cursor: o SSE só leva status de tarefas, itens
+// marcados/desmarcados e comentários novos, e as demais alterações (edições, criações, exclusões)
+// também avançam a revisão. O cursor do cliente só avança com GET /api/projects/{id}/changes ou
+// com o quadro recarregado.
+public record BoardEventsDTO(
+        String projectCode,
+        long revision,
+        List<BoardEventDTO> events
+) {}
@@ -0,0 +1,11 @@
+package br.com.projetei.api.dto;
+
+// Uma operação do POST /api/projects/{projectId}/checklist-items/bulk.
+// CREATE: taskId + text. UPDATE: itemId + text e/ou checked. DELETE: itemId.
+public record BulkChecklistItemOperationDTO(
+        BulkOperationType op,
+        Long itemId,
+        Long taskId,
+        String text,
+        Boolean checked
+) {}
@@ -0,0 +1,28 @@
+package br.com.projetei.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Resultado de uma operação do lote, na mesma posição (index) em que veio na requisição.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOperationResultDTO(
+        int index,
+        BulkOperationType op,
+        Long id,
+        Status status,
+        String message
+) {
+
+    public enum Status { OK, NOT_FOUND, INVALID }
+
+    public static BulkOperationResultDTO ok(int index, BulkOperationType op, Long id) {
+        return new BulkOperationResultDTO(index, op, id, Status.OK, null);
+    }
+
+    public static BulkOperationResultDTO notFound(int index, BulkOperationType op, Long id, String message) {
+        return new BulkOperationResultDTO(index, op, id, Status.NOT_FOUND, message);
+    }
+
+    public static BulkOperationResultDTO invalid(int index, BulkOperationType op, Long id, String message) {
+        return new BulkOperationResultDTO(index, op, id, Status.INVALID, message);
+    }
+}
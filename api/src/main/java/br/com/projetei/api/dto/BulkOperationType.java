@@ -0,0 +1,10 @@
+package br.com.projetei.api.dto;
+
+// Operações aceitas pelos endpoints em lote (/tasks/bulk e /checklist-items/bulk).
+// STATUS só se aplica a tarefas.
+public enum BulkOperationType {
+    CREATE,
+    UPDATE,
+    STATUS,
+    DELETE
+}
@@ -0,0 +1,17 @@
+package br.com.projetei.api.dto;
+
+import java.util.List;
+
+// Resposta dos endpoints em lote. Operações inválidas ou de itens inexistentes são só reportadas;
+// as demais são aplicadas juntas, na mesma transação.
+public record BulkResultDTO(
+        int applied,
+        int failed,
+        List<BulkOperationResultDTO> results
+) {
+
+    public static BulkResultDTO of(List<BulkOperationResultDTO> results) {
+        int applied = (int) results.stream().filter(r -> r.status() == BulkOperationResultDTO.Status.OK).count();
+        return new BulkResultDTO(applied, results.size() - applied, results);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Uma operação do POST /api/projects/{projectId}/tasks/bulk.
+// CREATE: title (obrigatório), description, dueDate, priority e, opcionalmente, os textos do checklist.
+// UPDATE: taskId + campos a alterar (nulos são ignorados). STATUS: taskId + status. DELETE: taskId.
+public record BulkTaskOperationDTO(
+        BulkOperationType op,
+        Long taskId,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskPriority priority,
+        TaskStatus status,
+        List<String> checklist
+) {}
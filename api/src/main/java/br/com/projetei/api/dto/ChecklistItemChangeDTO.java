@@ -0,0 +1,8 @@
+package br.com.projetei.api.dto;
+
+public record ChecklistItemChangeDTO(
+        Long id,
+        Long taskId,
+        String text,
+        boolean checked) {
+}
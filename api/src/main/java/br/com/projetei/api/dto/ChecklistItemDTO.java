@@ -0,0 +1,15 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.ChecklistItem;
+
+// Item do checklist dentro do quadro completo (mesmo JSON da entidade).
+public record ChecklistItemDTO(
+        Long id,
+        long version,
+        String text,
+        boolean checked) {
+
+    public static ChecklistItemDTO of(ChecklistItem item) {
+        return new ChecklistItemDTO(item.getId(), item.getVersion(), item.getText(), item.isChecked());
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDateTime;
+
+public record CommentChangeDTO(
+        Long id,
+        Long taskId,
+        String text,
+        String authorName,
+        LocalDateTime createdAt) {
+}
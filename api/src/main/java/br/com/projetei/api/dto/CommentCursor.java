@@ -0,0 +1,35 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// Cursor da paginação dos comentários de uma tarefa: a posição (created_at, id) do último comentário
+// recebido. Vai no cabeçalho X-Next-Cursor e volta no parâmetro "after" como "<createdAt>_<id>".
+// Comentários antigos podem não ter created_at (a coluna aceita nulo): o cursor deles é "null_<id>".
+public record CommentCursor(LocalDateTime createdAt, long id) {
+
+    private static final String UNDATED = "null";
+
+    public static CommentCursor after(CommentChangeDTO comment) {
+        return new CommentCursor(comment.createdAt(), comment.id());
+    }
+
+    public static CommentCursor parse(String value) {
+        int separator = value.lastIndexOf('_');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cursor inválido: " + value);
+        }
+        try {
+            String createdAt = value.substring(0, separator);
+            return new CommentCursor(createdAt.equals(UNDATED) ? null : LocalDateTime.parse(createdAt),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (createdAt == null ? UNDATED : createdAt.toString()) + "_" + id;
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.projetei.api.dto;
+
+// Corpo do 409: a mensagem e o estado atual do recurso disputado (a tarefa, para alterações em
+// tarefas e itens de checklist; null para as operações em lote, que devem ser reenviadas inteiras).
+public record ConflictDTO(String message, Object current) {}
@@ -0,0 +1,15 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDate;
+
+// Um ponto da série de GET /api/projects/{id}/stats: o fluxo cumulativo (tarefas por status) e o
+// burndown (todo + doing) do projeto no fim daquele dia.
+public record DailyStatsDTO(
+        LocalDate date,
+        long todo,
+        long doing,
+        long done,
+        long overdue,
+        long checklistTotal,
+        long checklistChecked) {
+}
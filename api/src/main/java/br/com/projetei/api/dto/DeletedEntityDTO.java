@@ -0,0 +1,10 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.ChangeEntityType;
+
+// "Tombstone": indica que a entidade foi excluída. Ao excluir uma tarefa, os itens de
+// checklist e comentários dela também deixam de existir (não geram tombstones próprios).
+public record DeletedEntityDTO(
+        ChangeEntityType type,
+        Long id) {
+}
@@ -0,0 +1,18 @@
+package br.com.projetei.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+// Uma linha do NDJSON de GET /api/projects/{id}/export e POST /api/projects/import, identificada
+// pelo campo "type". Ordem do arquivo: o projeto e, depois, cada tarefa seguida dos seus itens de
+// checklist e comentários; assim a importação só precisa guardar a tarefa atual.
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = ExportedProjectDTO.class, name = "PROJECT"),
+        @JsonSubTypes.Type(value = ExportedTaskDTO.class, name = "TASK"),
+        @JsonSubTypes.Type(value = ExportedChecklistItemDTO.class, name = "CHECKLIST_ITEM"),
+        @JsonSubTypes.Type(value = ExportedCommentDTO.class, name = "COMMENT")
+})
+public sealed interface ExportLineDTO
+        permits ExportedProjectDTO, ExportedTaskDTO, ExportedChecklistItemDTO, ExportedCommentDTO {
+}
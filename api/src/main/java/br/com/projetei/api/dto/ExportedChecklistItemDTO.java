@@ -0,0 +1,7 @@
+package br.com.projetei.api.dto;
+
+public record ExportedChecklistItemDTO(
+        Long taskId,
+        String text,
+        boolean checked) implements ExportLineDTO {
+}
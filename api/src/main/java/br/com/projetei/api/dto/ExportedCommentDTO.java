@@ -0,0 +1,10 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDateTime;
+
+public record ExportedCommentDTO(
+        Long taskId,
+        String authorName,
+        String text,
+        LocalDateTime createdAt) implements ExportLineDTO {
+}
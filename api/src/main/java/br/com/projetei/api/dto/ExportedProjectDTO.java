@@ -0,0 +1,11 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDate;
+
+// Primeira linha da exportação. O código é só informativo: a importação gera um novo.
+public record ExportedProjectDTO(
+        String name,
+        String code,
+        String description,
+        LocalDate dueDate) implements ExportLineDTO {
+}
@@ -0,0 +1,17 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+// "id" é o ID da tarefa no projeto exportado; só serve para ligar os itens e comentários que vêm
+// em seguida (a importação gera IDs novos).
+public record ExportedTaskDTO(
+        Long id,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskStatus status,
+        TaskPriority priority) implements ExportLineDTO {
+}
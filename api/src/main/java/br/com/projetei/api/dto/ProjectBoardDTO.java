@@ -0,0 +1,18 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Quadro do projeto em formato leve: cabeçalho do projeto + cartões das tarefas.
+public record ProjectBoardDTO(
+        Long id,
+        String name,
+        String code,
+        LocalDate dueDate,
+        long revision,
+        List<TaskCardDTO> tasks) {
+
+    public static ProjectBoardDTO of(ProjectHeaderDTO header, List<TaskCardDTO> tasks) {
+        return new ProjectBoardDTO(header.id(), header.name(), header.code(), header.dueDate(), header.revision(), tasks);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.projetei.api.dto;
+
+import java.util.List;
+
+// Resposta do GET /api/projects/{id}/changes: o que mudou depois do cursor informado.
+// "cursor" deve ser enviado como "since" na próxima chamada; "hasMore" indica que ainda há alterações.
+// "project" só vem preenchido quando os dados do próprio projeto mudaram.
+// "resyncRequired": o cursor é anterior ao change log guardado (a retenção já apagou parte do que
+// mudou depois dele). O cliente recarrega o quadro inteiro e continua da revisão que recebeu.
+public record ProjectChangesDTO(
+        Long projectId,
+        long cursor,
+        boolean hasMore,
+        boolean resyncRequired,
+        ProjectHeaderDTO project,
+        List<TaskChangeDTO> tasks,
+        List<ChecklistItemChangeDTO> checklistItems,
+        List<CommentChangeDTO> comments,
+        List<DeletedEntityDTO> deleted) {
+
+    public static ProjectChangesDTO resyncRequired(ProjectHeaderDTO header) {
+        return new ProjectChangesDTO(header.id(), header.revision(), false, true, header, List.of(), List.of(), List.of(), List.of());
+    }
+}
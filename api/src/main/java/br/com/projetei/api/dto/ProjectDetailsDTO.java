@@ -0,0 +1,25 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.Project;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Quadro completo do projeto (GET /api/projects/{id} e /by-code/{code}), com o mesmo JSON da entidade.
+// É imutável e não guarda nenhuma entidade: pode ficar no ProjectBoardCache e ser lido por várias
+// requisições ao mesmo tempo, sem depender do contexto de persistência de quem o carregou.
+public record ProjectDetailsDTO(
+        Long id,
+        String name,
+        LocalDate dueDate,
+        String code,
+        String description,
+        long revision,
+        List<TaskDetailsDTO> tasks) {
+
+    // Chamado ainda dentro da transação que carregou o grafo.
+    public static ProjectDetailsDTO of(Project project) {
+        return new ProjectDetailsDTO(project.getId(), project.getName(), project.getDueDate(), project.getCode(),
+                project.getDescription(), project.getRevision(), project.getTasks().stream().map(TaskDetailsDTO::of).toList());
+    }
+}
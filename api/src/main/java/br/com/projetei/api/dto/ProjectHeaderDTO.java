@@ -0,0 +1,12 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDate;
+
+// Projeção com os dados básicos do projeto (sem descrição e sem tarefas).
+public record ProjectHeaderDTO(
+        Long id,
+        String name,
+        String code,
+        LocalDate dueDate,
+        long revision) {
+}
@@ -0,0 +1,24 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Indicadores do projeto (GET /api/projects/{id}/stats): os valores de hoje e a série diária,
+// do dia mais antigo até hoje. checklistCompletion vai de 0 a 100 (0 sem itens).
+public record ProjectStatsDTO(
+        Long projectId,
+        LocalDate date,
+        long totalTasks,
+        Map<TaskStatus, Long> byStatus,
+        Map<TaskPriority, Long> byPriority,
+        long withoutPriority,
+        long overdue,
+        long checklistTotal,
+        long checklistChecked,
+        double checklistCompletion,
+        List<DailyStatsDTO> history) {
+}
@@ -0,0 +1,9 @@
+package br.com.projetei.api.dto;
+
+import java.util.List;
+
+// Corpo de POST /api/projects/summaries: os projetos podem vir pelo ID, pelo código ou pelos dois.
+public record ProjectSummariesRequestDTO(
+        List<Long> ids,
+        List<String> codes) {
+}
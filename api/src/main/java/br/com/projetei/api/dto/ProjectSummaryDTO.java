@@ -0,0 +1,16 @@
+package br.com.projetei.api.dto;
+
+import java.time.LocalDate;
+
+// Cartão do projeto no Dashboard: os dados básicos e a contagem de tarefas por status, sem as tarefas.
+public record ProjectSummaryDTO(
+        Long id,
+        String name,
+        String code,
+        String description,
+        LocalDate dueDate,
+        long totalTasks,
+        long todo,
+        long doing,
+        long done) {
+}
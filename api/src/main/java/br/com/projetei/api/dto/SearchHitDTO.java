@@ -0,0 +1,15 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.ChangeEntityType;
+
+// Um resultado da busca textual. Para tarefas, "title" é o título e "text" a descrição;
+// para itens de checklist e comentários, "title" vem nulo e "text" é o próprio texto.
+public record SearchHitDTO(
+        ChangeEntityType type,
+        Long id,
+        Long taskId,
+        Long projectId,
+        String title,
+        String text,
+        float score) {
+}
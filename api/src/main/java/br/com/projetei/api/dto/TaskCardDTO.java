@@ -0,0 +1,18 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+// Visão "de cartão" de uma tarefa: só o que as colunas do Kanban exibem.
+// Descrição, checklist e comentários completos continuam em GET /api/tasks/{taskId}.
+public record TaskCardDTO(
+        Long id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDate dueDate,
+        int checkedCount,
+        int totalCount) {
+}
@@ -0,0 +1,16 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+// Estado atual dos campos de uma tarefa alterada (sem checklist e comentários, que vêm à parte).
+public record TaskChangeDTO(
+        Long id,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskStatus status,
+        TaskPriority priority) {
+}
@@ -0,0 +1,53 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Cursor da listagem de tarefas de um projeto: a ordenação usada e a posição (valor da chave, id) da
+// última tarefa recebida. Vai no cabeçalho X-Next-Cursor em Base64 (o título pode ter qualquer caractere)
+// e só vale para a mesma ordenação.
+public record TaskCursor(TaskSortKey sort, boolean descending, String value, long id) {
+
+    public static TaskCursor after(Task task, TaskSortKey sort, boolean descending) {
+        String value = switch (sort) {
+            case ID -> null;
+            case DUE_DATE -> task.getDueDate() == null ? null : task.getDueDate().toString();
+            case PRIORITY -> task.getPriority() == null ? null : task.getPriority().name();
+            case TITLE -> task.getTitle();
+        };
+        return new TaskCursor(sort, descending, value, task.getId());
+    }
+
+    public static TaskCursor parse(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 4);
+            TaskSortKey sort = TaskSortKey.valueOf(parts[0]);
+            String value = parts[3].isEmpty() ? null : parts[3].substring(1);
+            if (value != null && sort == TaskSortKey.DUE_DATE) {
+                LocalDate.parse(value);
+            } else if (value != null && sort == TaskSortKey.PRIORITY) {
+                TaskPriority.valueOf(value);
+            }
+            return new TaskCursor(sort, "desc".equals(parts[1]), value, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+
+    public boolean matches(TaskSortKey sort, boolean descending) {
+        return this.sort == sort && this.descending == descending;
+    }
+
+    // "<chave>:<asc|desc>:<id>:" seguido de "+<valor>" (ou nada, quando o valor é nulo)
+    @Override
+    public String toString() {
+        String raw = sort.name() + ":" + (descending ? "desc" : "asc") + ":" + id + ":" + (value == null ? "" : "+" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
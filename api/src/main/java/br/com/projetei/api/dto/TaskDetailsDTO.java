@@ -0,0 +1,31 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Tarefa dentro do quadro completo, com o checklist e o resumo dos comentários (mesmo JSON da entidade).
+public record TaskDetailsDTO(
+        Long id,
+        long version,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskStatus status,
+        TaskPriority priority,
+        int checklistTotal,
+        int checklistChecked,
+        List<ChecklistItemDTO> checklist,
+        long commentCount,
+        List<CommentChangeDTO> latestComments) {
+
+    public static TaskDetailsDTO of(Task task) {
+        return new TaskDetailsDTO(task.getId(), task.getVersion(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                task.getStatus(), task.getPriority(), task.getChecklistTotal(), task.getChecklistChecked(),
+                task.getChecklist().stream().map(ChecklistItemDTO::of).toList(),
+                task.getCommentCount(), List.copyOf(task.getLatestComments()));
+    }
+}
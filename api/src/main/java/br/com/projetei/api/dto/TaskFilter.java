@@ -0,0 +1,26 @@
+package br.com.projetei.api.dto;
+
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// Filtros de GET /api/projects/{projectId}/tasks. Campos nulos (ou conjuntos vazios) não filtram.
+// - overdue: true = prazo já passou e a tarefa não está DONE; false = o contrário.
+// - hasUncheckedChecklist: true = ao menos um item do checklist desmarcado (pelos contadores da tarefa).
+public record TaskFilter(
+        Set<TaskStatus> statuses,
+        Set<TaskPriority> priorities,
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        Boolean overdue,
+        Boolean hasUncheckedChecklist) {
+
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, null, null, null);
+
+    public boolean isEmpty() {
+        return (statuses == null || statuses.isEmpty()) && (priorities == null || priorities.isEmpty())
+                && dueFrom == null && dueTo == null && overdue == null && hasUncheckedChecklist == null;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.projetei.api.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.cache.CacheManager;
+
+// Métricas próprias da API, além das que o Actuator já publica (http.server.requests,
+// hikaricp.*, hibernate.*, cache.*). Tudo sai em /actuator/prometheus.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            SqlStatementCounter statementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${projetei.sql.statement-budget:20}") int budget,
+            @Value("${projetei.sql.expose-count-header:false}") boolean exposeCountHeader) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementBudgetFilter(statementCounter, meterRegistry, budget, exposeCountHeader));
+        // Por dentro dos filtros do Spring (observação HTTP, encoding), por fora do DispatcherServlet.
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+
+    // Regiões do cache de segundo nível (gets, puts, removals, evictions), contadas pelo próprio JCache.
+    // Acertos e faltas por região também saem nas estatísticas do Hibernate (hibernate.second.level.cache.*).
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String name : hibernateCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(name), Tags.of("cacheManager", "hibernate"));
+            }
+        };
+    }
+
+    // O JCacheMetrics publica com os nomes cache.* de sempre, mas o Prometheus não aceita o mesmo nome
+    // com etiquetas diferentes das dos caches dos quadros: as regiões do Hibernate ganham nomes próprios
+    // (projetei.l2.cache.gets, projetei.l2.cache.evictions etc.).
+    @Bean
+    public MeterFilter hibernateCacheMeterNames() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if ("hibernate".equals(id.getTag("cacheManager")) && id.getName().startsWith("cache.")) {
+                    return id.withName("projetei.l2." + id.getName());
+                }
+                return id;
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.projetei.api.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Orçamento de instruções SQL próprio de um endpoint, no lugar do geral (projetei.sql.statement-budget)
+// usado por SqlStatementBudgetFilter. UNLIMITED para endpoints cujo número de instruções cresce com o
+// corpo da requisição (lotes, importação): a contagem continua em projetei.http.sql.statements, mas
+// sem aviso de N+1.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+
+    int UNLIMITED = Integer.MAX_VALUE;
+
+    int value();
+}
@@ -0,0 +1,120 @@
+package br.com.projetei.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+// Conta as instruções SQL de cada requisição da API (SqlStatementCounter) e:
+//  - registra o número em projetei.http.sql.statements, com as mesmas tags method/uri do
+//    http.server.requests (dá para ver qual endpoint passou a fazer N+1);
+//  - loga um aviso com o endpoint quando passa do orçamento (projetei.sql.statement-budget, ou o
+//    @SqlStatementBudget do método do controller) e conta o estouro em projetei.http.sql.budget.exceeded;
+//  - com projetei.sql.expose-count-header=true (perfil dev e testes), devolve o número no
+//    cabeçalho X-SQL-Statements.
+//
+// O filtro fica por fora do open-in-view, então a serialização da resposta (onde carregamentos
+// preguiçosos esquecidos aparecem) entra na conta. Para o cabeçalho incluir essas consultas, o corpo
+// é segurado em memória até o fim; por isso só com a opção ligada, e nunca em SSE ou NDJSON.
+// Requisições assíncronas (SSE, NDJSON) não são medidas.
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Statements";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final boolean exposeCountHeader;
+    private final Counter budgetExceeded;
+
+    public SqlStatementBudgetFilter(SqlStatementCounter statementCounter, MeterRegistry meterRegistry, int budget,
+                                    boolean exposeCountHeader) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.exposeCountHeader = exposeCountHeader;
+        this.budgetExceeded = Counter.builder("projetei.http.sql.budget.exceeded")
+                .description("Requisições que passaram do orçamento de instruções SQL")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = exposeCountHeader && !isStreaming(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+        statementCounter.reset();
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                int statements = statementCounter.count();
+                record(request, statements);
+                if (buffered != null) {
+                    buffered.setHeader(COUNT_HEADER, Integer.toString(statements));
+                }
+            }
+            if (buffered != null) {
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("projetei.http.sql.statements")
+                .description("Instruções SQL preparadas pelo Hibernate por requisição")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+        int limit = budgetOf(request);
+        if (statements > limit) {
+            budgetExceeded.increment();
+            log.warn("{} {} executou {} instruções SQL (orçamento: {}) em {}", request.getMethod(), uri, statements, limit,
+                    request.getRequestURI());
+        }
+    }
+
+    private int budgetOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            SqlStatementBudget own = handler.getMethodAnnotation(SqlStatementBudget.class);
+            if (own != null) {
+                return own.value();
+            }
+        }
+        return budget;
+    }
+
+    // SSE e NDJSON (inclusive a exportação de projeto, qualquer que seja o Accept) escrevem no
+    // response depois que o filtro terminou: nada de buffer ali.
+    private static boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return request.getRequestURI().endsWith("/events")
+                || request.getRequestURI().endsWith("/export")
+                || (accept != null && (accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)
+                        || accept.contains(MediaType.APPLICATION_NDJSON_VALUE)));
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.projetei.api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+// Conta as instruções SQL que o Hibernate prepara na thread atual (um lote JDBC conta uma vez).
+// Cada requisição roda inteira na thread do Tomcat (inclusive a carga do quadro no cache), então
+// zerar no começo e ler no fim dá o número de consultas daquela requisição.
+// Consultas feitas por JdbcTemplate não passam pelo Hibernate e ficam de fora.
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        STATEMENTS.get()[0] = 0;
+    }
+
+    public int count() {
+        return STATEMENTS.get()[0];
+    }
+}
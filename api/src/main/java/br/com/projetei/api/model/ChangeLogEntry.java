@@ -0,0 +1,61 @@
+package br.com.projetei.api.model;
+
+import br.com.projetei.api.model.enums.ChangeEntityType;
+import br.com.projetei.api.model.enums.ChangeOperation;
+import br.com.projetei.api.repository.IdBlock;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Registro append-only das alterações de um projeto, gravado na mesma transação da alteração.
+// A "revision" é a revisão do projeto gerada por aquela transação e serve de cursor para o
+// GET /api/projects/{id}/changes?since=... (ver ProjectChangeTracker).
+@Entity
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_project_revision", columnList = "project_id, revision"))
+public class ChangeLogEntry {
+
+    @Id
+    @IdBlock("change_log")
+    private Long id;
+
+    // Guardamos só o ID (sem relacionamento) para o log não depender do ciclo de vida do projeto.
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeOperation operation;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // Construtor vazio é exigido pelo JPA
+    public ChangeLogEntry() {
+    }
+
+    public ChangeLogEntry(Long projectId, long revision, ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        this.projectId = projectId;
+        this.revision = revision;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public Long getProjectId() { return projectId; }
+    public long getRevision() { return revision; }
+    public ChangeEntityType getEntityType() { return entityType; }
+    public Long getEntityId() { return entityId; }
+    public ChangeOperation getOperation() { return operation; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
@@ -1,16 +1,27 @@
 package br.com.projetei.api.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import br.com.projetei.api.repository.IdBlock;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "checklist_items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "checklist_items")
 public class ChecklistItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdBlock("checklist_items")
     private Long id;
 
+    // Duas marcações simultâneas do mesmo item não podem ser contadas duas vezes nos contadores da tarefa.
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     @Column(nullable = false)
     private String text;
 
@@ -27,6 +38,7 @@ public class ChecklistItem {
     // Getters e Setters (agora corretos para o campo 'checked')
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public long getVersion() { return version; }
     public String getText() { return text; }
     public void setText(String text) { this.text = text; }
 
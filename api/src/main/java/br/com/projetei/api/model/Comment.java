@@ -1,15 +1,16 @@
 package br.com.projetei.api.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import br.com.projetei.api.repository.IdBlock;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_task_created_at", columnList = "task_id, created_at"))
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdBlock("comments")
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -1,7 +1,11 @@
 package br.com.projetei.api.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import br.com.projetei.api.repository.IdBlock;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -9,13 +13,19 @@ import java.util.List;
 @Entity
 // @Table: Permite especificar o nome exato da tabela. É uma boa prática usar nomes no plural para tabelas.
 @Table(name = "projects")
+// Cache de segundo nível (região "projects", limites em hibernate-cache.conf): o findById dos serviços
+// (criar tarefa, editar projeto, lotes) não vai ao banco. READ_WRITE trava a entrada durante uma
+// alteração, e o incremento da revisão (ProjectChangeTracker) trava só a entrada do projeto alterado.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 public class Project {
 
     // @Id: Marca este campo como a chave primária (Primary Key) da tabela.
     @Id
-    // @GeneratedValue: Configura como a chave primária será gerada.
-    // GenerationType.IDENTITY: Delega ao banco de dados a tarefa de gerar o ID (auto_increment).
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // @IdBlock: os IDs vêm da tabela "id_generators", reservados em blocos de 50 por um pool de
+    // conexões próprio (ver IdBlockGenerator). Com IDENTITY (auto_increment) o Hibernate precisa
+    // executar cada INSERT na hora para descobrir o ID, o que desliga o envio de INSERTs em lote (JDBC batch).
+    @IdBlock("projects")
     private Long id;
 
     // @Column: Permite customizar a coluna, como o nome, se pode ser nula, etc.
@@ -31,6 +41,13 @@ public class Project {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // Revisão do projeto: incrementada (via UPDATE atômico no banco) a cada alteração no projeto,
+    // nas suas tarefas, checklists ou comentários. É a base do ETag dos GETs.
+    // updatable = false: só o ProjectChangeTracker altera esta coluna, nunca o flush da entidade.
+    @Column(nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long revision;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     private List<Task> tasks;
@@ -77,6 +94,14 @@ public class Project {
         this.tasks = tasks;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
     public String getDescription() {
         return description;
     }
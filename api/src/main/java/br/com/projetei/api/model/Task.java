@@ -1,21 +1,37 @@
 package br.com.projetei.api.model;
 
+import br.com.projetei.api.dto.CommentChangeDTO;
 import br.com.projetei.api.model.enums.TaskPriority;
 import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.IdBlock;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.List; // Importe a List
 
 @Entity
-@Table(name = "tasks")
+// Índices criados pela migração V3 (db/migration); aqui só para documentar o esquema.
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_tasks_project_due_date", columnList = "project_id, due_date")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @IdBlock("tasks")
     private Long id;
 
+    // Controle otimista de concorrência: todo UPDATE da tarefa confere e incrementa a versão.
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -36,22 +52,58 @@ public class Task {
     @JsonBackReference
     private Project project;
 
+    // Progresso do checklist, mantido pelos serviços com UPDATE ... = x + delta (ver TaskService),
+    // para o status e o quadro não precisarem carregar os itens. updatable = false: o flush da
+    // entidade nunca sobrescreve estes valores; só os incrementos no banco os alteram.
+    @Column(name = "checklist_total", nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int checklistTotal;
+
+    @Column(name = "checklist_checked", nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int checklistChecked;
+
     // --- NOVOS RELACIONAMENTOS ---
+    // A lista guarda só os IDs dos itens no cache; os itens vêm da região "checklist_items".
+    // Como o lado dono é ChecklistItem.task, hibernate.cache.auto_evict_collection_cache tira a
+    // lista do cache quando um item é criado, movido ou excluído.
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks_checklist")
     private List<ChecklistItem> checklist;
 
+    // Os comentários não vão no JSON da tarefa (uma tarefa pode ter milhares): ela leva só o total e
+    // os mais recentes (abaixo), e a lista completa vem paginada de GET /api/tasks/{id}/comments.
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
-    @JsonManagedReference
+    @JsonIgnore
     private List<Comment> comments;
 
+    // Resumo dos comentários, preenchido pelos serviços que devolvem a tarefa (ver CommentService).
+    @Transient
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long commentCount;
+
+    @Transient
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<CommentChangeDTO> latestComments = List.of();
+
 
     // Construtor, Getters e Setters...
     public Task() {}
 
+    // Uma tarefa nova já nasce com os contadores do checklist que veio junto (cascade).
+    @PrePersist
+    void initChecklistCounters() {
+        if (checklist != null) {
+            checklistTotal = checklist.size();
+            checklistChecked = (int) checklist.stream().filter(ChecklistItem::isChecked).count();
+        }
+    }
+
     // ... Getters e Setters para todos os campos, incluindo as novas listas ...
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public long getVersion() { return version; }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
     public String getDescription() { return description; }
@@ -62,10 +114,21 @@ public class Task {
     public void setStatus(TaskStatus status) { this.status = status; }
     public Project getProject() { return project; }
     public void setProject(Project project) { this.project = project; }
+    public int getChecklistTotal() { return checklistTotal; }
+    public void setChecklistTotal(int checklistTotal) { this.checklistTotal = checklistTotal; }
+    public int getChecklistChecked() { return checklistChecked; }
+    public void setChecklistChecked(int checklistChecked) { this.checklistChecked = checklistChecked; }
     public List<ChecklistItem> getChecklist() { return checklist; }
     public void setChecklist(List<ChecklistItem> checklist) { this.checklist = checklist; }
     public List<Comment> getComments() { return comments; }
     public void setComments(List<Comment> comments) { this.comments = comments; }
+    public long getCommentCount() { return commentCount; }
+    public List<CommentChangeDTO> getLatestComments() { return latestComments; }
+
+    public void setCommentSummary(long commentCount, List<CommentChangeDTO> latestComments) {
+        this.commentCount = commentCount;
+        this.latestComments = latestComments;
+    }
 
     public TaskPriority getPriority() {
         return priority;
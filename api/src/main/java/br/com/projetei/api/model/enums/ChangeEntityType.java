@@ -0,0 +1,8 @@
+package br.com.projetei.api.model.enums;
+
+public enum ChangeEntityType {
+    PROJECT,
+    TASK,
+    CHECKLIST_ITEM,
+    COMMENT
+}
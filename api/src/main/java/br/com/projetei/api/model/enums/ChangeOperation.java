@@ -0,0 +1,6 @@
+package br.com.projetei.api.model.enums;
+
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
@@ -0,0 +1,29 @@
+package br.com.projetei.api.model.enums;
+
+import java.util.Arrays;
+
+// Chaves de ordenação de GET /api/projects/{projectId}/tasks (parâmetro "sort=<chave>[,desc]").
+// O ID sempre entra como desempate, o que dá uma ordem total para a paginação por cursor.
+public enum TaskSortKey {
+    ID("id"),
+    DUE_DATE("dueDate"),
+    PRIORITY("priority"),
+    TITLE("title");
+
+    private final String param;
+
+    TaskSortKey(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static TaskSortKey fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(key -> key.param.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Ordenação inválida: " + param));
+    }
+}
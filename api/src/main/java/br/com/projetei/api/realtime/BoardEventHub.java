@@ -0,0 +1,308 @@
+package br.com.projetei.api.realtime;
+
+import br.com.projetei.api.dto.BoardEventDTO;
+import br.com.projetei.api.dto.BoardEventsDTO;
+import br.com.projetei.api.model.Project;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Canal de "push" dos quadros via Server-Sent Events (GET /api/projects/by-code/{code}/events).
+//
+// - As conexões usam o modo assíncrono do Servlet (SseEmitter): uma conexão parada não prende thread.
+//   Só há threads enquanto algo está sendo escrito (pool pequeno e fixo de envio).
+// - Os eventos só entram aqui depois do commit da transação que os gerou.
+// - Rajadas são agrupadas: alterações do mesmo quadro dentro da janela de coalescência viram um único
+//   evento SSE, e alterações repetidas da mesma entidade ficam só com o último estado.
+// - Cada assinante tem uma fila limitada. Quem não consome no ritmo (fila cheia) é desconectado em vez
+//   de acumular memória; o EventSource do navegador reconecta e o cliente recupera o que perdeu
+//   por GET /api/projects/{id}/changes?since=<revisão do último quadro/delta carregado> (nunca a dos
+//   lotes, que não trazem todos os tipos de alteração; ver BoardEventsDTO).
+@Component
+public class BoardEventHub {
+
+    private static final String BOARD_EVENT = "board";
+    private static final String READY_EVENT = "ready";
+
+    private final ObjectMapper objectMapper;
+    private final Duration coalescingWindow;
+    private final Duration emitterTimeout;
+    private final int maxQueuedEvents;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribersByCode = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PendingBatch> pendingByCode = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Counter sentEvents;
+    private final Counter droppedSubscribers;
+
+    public BoardEventHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${projetei.realtime.coalescing-window:100ms}") Duration coalescingWindow,
+            @Value("${projetei.realtime.heartbeat:25s}") Duration heartbeat,
+            @Value("${projetei.realtime.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${projetei.realtime.max-queued-events:32}") int maxQueuedEvents,
+            @Value("${projetei.realtime.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.coalescingWindow = coalescingWindow;
+        this.emitterTimeout = emitterTimeout;
+        this.maxQueuedEvents = maxQueuedEvents;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("board-events-scheduler"));
+        this.sender = Executors.newFixedThreadPool(senderThreads, daemonThreads("board-events-sender"));
+        this.scheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+
+        meterRegistry.gauge("projetei.realtime.subscribers", subscriberCount);
+        this.sentEvents = Counter.builder("projetei.realtime.events")
+                .description("Eventos SSE (lotes) entregues aos assinantes")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("projetei.realtime.dropped")
+                .description("Assinantes desconectados por não acompanharem o ritmo dos eventos")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String projectCode, long currentRevision) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(projectCode, emitter);
+
+        emitter.onCompletion(() -> subscriber.close(false));
+        emitter.onError(error -> subscriber.close(false));
+        emitter.onTimeout(() -> subscriber.close(false));
+
+        // Primeiro evento: a revisão atual, para o cliente saber se precisa buscar o delta antes.
+        subscriber.offer(new Message(READY_EVENT, currentRevision,
+                toJson(new BoardEventsDTO(projectCode, currentRevision, List.of()))));
+
+        subscribersByCode.computeIfAbsent(projectCode, code -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        return emitter;
+    }
+
+    // Os testes (BoardEventHubTests) trocam por um emitter que grava o que seria enviado.
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeout.toMillis());
+    }
+
+    // Chamado pelos serviços dentro da transação da alteração; o evento só sai depois do commit
+    // (e é descartado se a transação fizer rollback).
+    public void publish(Project project, long revision, BoardEventDTO event) {
+        String projectCode = project.getCode();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(projectCode, revision, event);
+                }
+            });
+        } else {
+            enqueue(projectCode, revision, event);
+        }
+    }
+
+    private void enqueue(String projectCode, long revision, BoardEventDTO event) {
+        if (!subscribersByCode.containsKey(projectCode)) {
+            return;
+        }
+        AtomicBoolean firstOfBurst = new AtomicBoolean();
+        pendingByCode.compute(projectCode, (code, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch();
+                firstOfBurst.set(true);
+            }
+            batch.add(revision, event);
+            return batch;
+        });
+        if (firstOfBurst.get()) {
+            scheduler.schedule(() -> flush(projectCode), coalescingWindow.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(String projectCode) {
+        PendingBatch batch = pendingByCode.remove(projectCode);
+        Set<Subscriber> subscribers = subscribersByCode.get(projectCode);
+        if (batch == null || subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        // Serializa uma vez só, para todos os assinantes do quadro.
+        String json = toJson(new BoardEventsDTO(projectCode, batch.revision, new ArrayList<>(batch.events.values())));
+        Message message = new Message(BOARD_EVENT, batch.revision, json);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    private void sendHeartbeats() {
+        // Mantém proxies com a conexão aberta e detecta clientes que já foram embora.
+        for (Set<Subscriber> subscribers : subscribersByCode.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(Message.HEARTBEAT);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByCode.computeIfPresent(subscriber.projectCode, (code, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private String toJson(BoardEventsDTO events) {
+        try {
+            return objectMapper.writeValueAsString(events);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+        subscribersByCode.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.close(false)));
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Alterações de um quadro acumuladas durante a janela de coalescência, uma por entidade.
+    private static final class PendingBatch {
+        private final Map<String, BoardEventDTO> events = new LinkedHashMap<>();
+        private long revision;
+
+        void add(long eventRevision, BoardEventDTO event) {
+            String key = event.coalescingKey();
+            events.remove(key);
+            events.put(key, event);
+            revision = Math.max(revision, eventRevision);
+        }
+    }
+
+    private record Message(String name, long revision, String json) {
+
+        static final Message HEARTBEAT = new Message(null, 0, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().name(name).id(Long.toString(revision)).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    // Uma conexão SSE. Só uma thread escreve nela por vez (flag "draining").
+    private final class Subscriber {
+
+        private final String projectCode;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(maxQueuedEvents);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(String projectCode, SseEmitter emitter) {
+            this.projectCode = projectCode;
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                droppedSubscribers.increment();
+                close(true);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // Com "complete", o emitter é encerrado pela thread de envio (nunca por quem está publicando,
+        // que ficaria esperando uma escrita lenta terminar).
+        void close(boolean complete) {
+            closed = true;
+            queue.clear();
+            remove(this);
+            if (complete) {
+                scheduleDrain();
+            } else {
+                completed.set(true);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException rejected) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    emitter.send(message.toEvent());
+                    if (message.name != null) {
+                        sentEvents.increment();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectou; o Spring já encerra o emitter.
+                close(false);
+            } finally {
+                if (closed && completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+                draining.set(false);
+            }
+            // Algo pode ter chegado (ou o fechamento pode ter sido pedido) entre o fim do laço e a liberação da flag.
+            if (closed ? !completed.get() : !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.projetei.api.repository;
+
+import br.com.projetei.api.model.ChangeLogEntry;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    List<ChangeLogEntry> findByProjectIdAndRevisionGreaterThanOrderByRevisionAscIdAsc(Long projectId, long revision, Limit limit);
+
+    List<ChangeLogEntry> findByProjectIdAndRevisionOrderByIdAsc(Long projectId, long revision);
+
+    @Modifying
+    @Query("delete from ChangeLogEntry e where e.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    // --- Retenção ---
+
+    // Por projeto, a última revisão com alguma entrada anterior ao corte. A poda remove revisões
+    // inteiras (até essa), para um cursor nunca receber só parte de uma revisão.
+    @Query("select e.projectId as projectId, max(e.revision) as revision from ChangeLogEntry e where e.changedAt < :cutoff group by e.projectId")
+    List<PrunableRevision> findPrunableRevisions(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from ChangeLogEntry e where e.projectId = :projectId and e.revision <= :revision")
+    int deleteUpToRevision(@Param("projectId") Long projectId, @Param("revision") long revision);
+
+    // Tabela change_log_floors (sem entidade): o "espaço" próprio evita que o Hibernate esvazie as
+    // regiões do cache de segundo nível (ver ProjectRepository.incrementRevision).
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "change_log_floors"))
+    @Query(value = """
+            insert into change_log_floors (project_id, revision) values (:projectId, :revision)
+            on duplicate key update revision = :revision
+            """, nativeQuery = true)
+    int saveFloor(@Param("projectId") Long projectId, @Param("revision") long revision);
+
+    @Query(value = "select revision from change_log_floors where project_id = :projectId", nativeQuery = true)
+    Optional<Long> findFloor(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "change_log_floors"))
+    @Query(value = "delete from change_log_floors where project_id = :projectId", nativeQuery = true)
+    int deleteFloor(@Param("projectId") Long projectId);
+
+    interface PrunableRevision {
+        Long getProjectId();
+        long getRevision();
+    }
+}
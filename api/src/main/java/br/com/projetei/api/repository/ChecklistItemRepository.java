@@ -1,9 +1,60 @@
 package br.com.projetei.api.repository;
 
+import br.com.projetei.api.dto.ChecklistItemChangeDTO;
+import br.com.projetei.api.dto.ExportedChecklistItemDTO;
 import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.search.IndexedText;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, Long> {
-}
\ No newline at end of file
+
+    @Query("select new br.com.projetei.api.dto.ChecklistItemChangeDTO(c.id, c.task.id, c.text, c.checked) " +
+            "from ChecklistItem c where c.task.project.id = :projectId and c.id in :ids")
+    List<ChecklistItemChangeDTO> findChangesByIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // Operações em lote: carrega de uma vez os itens (com a tarefa pai) que pertencem ao projeto.
+    @Query("select c from ChecklistItem c join fetch c.task t where t.project.id = :projectId and c.id in :ids")
+    List<ChecklistItem> findWithTaskByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // Textos de todos os itens para a reconstrução do índice de busca.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.projetei.api.search.IndexedText(br.com.projetei.api.model.enums.ChangeEntityType.CHECKLIST_ITEM, " +
+            "c.id, c.task.id, c.task.project.id, cast(null as String), c.text) from ChecklistItem c")
+    Stream<IndexedText> streamIndexedTexts();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.projetei.api.search.IndexedText(br.com.projetei.api.model.enums.ChangeEntityType.CHECKLIST_ITEM, " +
+            "c.id, c.task.id, c.task.project.id, cast(null as String), c.text) from ChecklistItem c where c.task.project.id = :projectId")
+    Stream<IndexedText> streamIndexedTextsByProjectId(@Param("projectId") Long projectId);
+
+    // Exportação: agrupados por tarefa, na ordem de TaskRepository.streamExportByProjectId.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new br.com.projetei.api.dto.ExportedChecklistItemDTO(c.task.id, c.text, c.checked)
+            from ChecklistItem c
+            where c.task.project.id = :projectId
+            order by c.task.id, c.id
+            """)
+    Stream<ExportedChecklistItemDTO> streamExportByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from ChecklistItem c where c.task.id in (select t.id from Task t where t.project.id = :projectId)")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from ChecklistItem c where c.task.id in :taskIds")
+    int deleteByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -1,9 +1,112 @@
 package br.com.projetei.api.repository;
 
+import br.com.projetei.api.dto.CommentChangeDTO;
+import br.com.projetei.api.dto.ExportedCommentDTO;
 import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.search.IndexedText;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-}
\ No newline at end of file
+
+    // Os N comentários mais recentes de cada tarefa, com o total dela, numa consulta só (funções de
+    // janela sobre o índice idx_comments_task_created_at). Tarefas sem comentários não aparecem.
+    String LATEST_PER_TASK = """
+            select r.id, r.task_id as taskId, r.text, r.author_name as authorName, r.created_at as createdAt, r.total
+            from (select c.id, c.task_id, c.text, c.author_name, c.created_at,
+                         row_number() over (partition by c.task_id order by c.created_at desc, c.id desc) as rn,
+                         count(*) over (partition by c.task_id) as total
+                  from comments c
+            """;
+    String LATEST_PER_TASK_END = """
+            ) r
+            where r.rn <= :latest
+            order by r.task_id, r.created_at, r.id
+            """;
+
+    @Query("select new br.com.projetei.api.dto.CommentChangeDTO(c.id, c.task.id, c.text, c.authorName, c.createdAt) " +
+            "from Comment c where c.task.project.id = :projectId and c.id in :ids")
+    List<CommentChangeDTO> findChangesByIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // Comentários de uma tarefa em ordem cronológica, paginados por cursor (created_at, id) em vez de
+    // OFFSET: cada página continua de onde a anterior parou, sem reler as anteriores. Os sem created_at
+    // vêm primeiro (nulos ordenam antes no MySQL e no H2); depois de um deles, o cursor segue por
+    // findPageAfterUndated, já que "c.createdAt > null" não casa com nada.
+    @Query("select new br.com.projetei.api.dto.CommentChangeDTO(c.id, c.task.id, c.text, c.authorName, c.createdAt) " +
+            "from Comment c where c.task.id = :taskId order by c.createdAt, c.id")
+    List<CommentChangeDTO> findFirstPage(@Param("taskId") Long taskId, Limit limit);
+
+    @Query("select new br.com.projetei.api.dto.CommentChangeDTO(c.id, c.task.id, c.text, c.authorName, c.createdAt) " +
+            "from Comment c where c.task.id = :taskId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) order by c.createdAt, c.id")
+    List<CommentChangeDTO> findPageAfter(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Limit limit);
+
+    @Query("select new br.com.projetei.api.dto.CommentChangeDTO(c.id, c.task.id, c.text, c.authorName, c.createdAt) " +
+            "from Comment c where c.task.id = :taskId " +
+            "and (c.createdAt is not null or c.id > :id) order by c.createdAt, c.id")
+    List<CommentChangeDTO> findPageAfterUndated(@Param("taskId") Long taskId, @Param("id") Long id, Limit limit);
+
+    @Query(value = LATEST_PER_TASK + "where c.task_id = :taskId" + LATEST_PER_TASK_END, nativeQuery = true)
+    List<LatestComment> findLatestByTaskId(@Param("taskId") Long taskId, @Param("latest") int latest);
+
+    @Query(value = LATEST_PER_TASK + "join tasks t on t.id = c.task_id where t.project_id in (:projectIds)" + LATEST_PER_TASK_END,
+            nativeQuery = true)
+    List<LatestComment> findLatestByProjectIds(@Param("projectIds") Collection<Long> projectIds, @Param("latest") int latest);
+
+    @Query(value = LATEST_PER_TASK + "where c.task_id in (:taskIds)" + LATEST_PER_TASK_END, nativeQuery = true)
+    List<LatestComment> findLatestByTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("latest") int latest);
+
+    // Textos de todos os comentários para a reconstrução do índice de busca.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.projetei.api.search.IndexedText(br.com.projetei.api.model.enums.ChangeEntityType.COMMENT, " +
+            "c.id, c.task.id, c.task.project.id, cast(null as String), c.text) from Comment c")
+    Stream<IndexedText> streamIndexedTexts();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.projetei.api.search.IndexedText(br.com.projetei.api.model.enums.ChangeEntityType.COMMENT, " +
+            "c.id, c.task.id, c.task.project.id, cast(null as String), c.text) from Comment c where c.task.project.id = :projectId")
+    Stream<IndexedText> streamIndexedTextsByProjectId(@Param("projectId") Long projectId);
+
+    // Exportação: agrupados por tarefa (na ordem de TaskRepository.streamExportByProjectId) e, dentro
+    // de cada tarefa, em ordem cronológica.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new br.com.projetei.api.dto.ExportedCommentDTO(c.task.id, c.authorName, c.text, c.createdAt)
+            from Comment c
+            where c.task.project.id = :projectId
+            order by c.task.id, c.createdAt, c.id
+            """)
+    Stream<ExportedCommentDTO> streamExportByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from Comment c where c.task.id in (select t.id from Task t where t.project.id = :projectId)")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from Comment c where c.task.id in :taskIds")
+    int deleteByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    interface LatestComment {
+        Long getId();
+        Long getTaskId();
+        String getText();
+        String getAuthorName();
+        LocalDateTime getCreatedAt();
+        long getTotal();
+    }
+}
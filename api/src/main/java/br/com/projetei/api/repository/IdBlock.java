@@ -0,0 +1,20 @@
+package br.com.projetei.api.repository;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// ID reservado em blocos pela tabela "id_generators" (ver IdBlockGenerator). "value" é o segmento,
+// igual ao nome da tabela da entidade.
+@IdGeneratorType(IdBlockGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface IdBlock {
+
+    String value();
+
+    int allocationSize() default 50;
+}
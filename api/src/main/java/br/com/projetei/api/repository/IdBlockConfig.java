@@ -0,0 +1,38 @@
+package br.com.projetei.api.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Pool de conexões só das reservas de IDs (IdBlockGenerator), com o mesmo banco e as mesmas
+// credenciais do pool principal. Não é exposto como DataSource: o Spring Boot deixaria de criar o
+// pool principal. As métricas saem em hikaricp.connections.* com pool="id-blocks".
+@Configuration
+public class IdBlockConfig {
+
+    @Bean
+    public IdBlockConnections idBlockConnections(
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${projetei.ids.pool-size:2}") int poolSize) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("id-blocks");
+        dataSource.setMaximumPoolSize(Math.max(1, poolSize));
+        dataSource.setMinimumIdle(1);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new IdBlockConnections(dataSource);
+    }
+
+    // O Spring fecha o pool (close) ao encerrar o contexto.
+    public record IdBlockConnections(HikariDataSource dataSource) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            dataSource.close();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.projetei.api.repository;
+
+import br.com.projetei.api.repository.IdBlockConfig.IdBlockConnections;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentifierGenerator;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Member;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Gerador dos IDs das entidades: blocos de "allocationSize" IDs reservados na tabela id_generators,
+// com a mesma contagem do otimizador "pooled" do @TableGenerator que ele substitui (a linha guarda
+// o fim do próximo bloco; quem lê "v" grava "v + 50" e usa de v - 49 até v). IdGeneratorAligner e as
+// migrações continuam valendo sem alteração.
+//
+// A diferença está na conexão. O @TableGenerator reserva o bloco numa transação separada, com outra
+// conexão do mesmo pool do Hikari; quem precisa do bloco já segura uma conexão e, quase sempre, o
+// lock da linha do projeto (ProjectChangeTracker.revisionOf). Com o pool tomado por escritas do mesmo
+// projeto esperando esse lock, quem tinha o lock esperava uma conexão até o timeout. Aqui a reserva
+// usa um pool próprio e pequeno (IdBlockConfig), em que cada conexão fica só o tempo de um SELECT e
+// um UPDATE: esperar por ela nunca depende de uma escrita terminar.
+//
+// O Hibernate cria uma instância por entidade pelo contêiner do Spring (que injeta o pool) e
+// depois passa a anotação em initialize.
+public class IdBlockGenerator implements IdentifierGenerator, AnnotationBasedGenerator<IdBlock> {
+
+    private final DataSource dataSource;
+    private String segment;
+    private int allocationSize;
+
+    private long next;
+    private long last = -1;
+
+    public IdBlockGenerator(IdBlockConnections connections) {
+        this.dataSource = connections.dataSource();
+    }
+
+    @Override
+    public void initialize(IdBlock config, Member member, GeneratorCreationContext context) {
+        this.segment = config.value();
+        this.allocationSize = Math.max(1, config.allocationSize());
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object object) {
+        while (next > last) {
+            long hi = reserveBlock();
+            next = Math.max(1, hi - allocationSize + 1);
+            last = hi;
+        }
+        return next++;
+    }
+
+    private long reserveBlock() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long hi = currentValue(connection);
+                try (PreparedStatement update = connection.prepareStatement(
+                        "update id_generators set next_val = ? where entity_name = ? and next_val = ?")) {
+                    update.setLong(1, hi + allocationSize);
+                    update.setString(2, segment);
+                    update.setLong(3, hi);
+                    if (update.executeUpdate() != 1) {
+                        throw new HibernateException("Contador de IDs '" + segment + "' alterado durante a reserva.");
+                    }
+                }
+                connection.commit();
+                return hi;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new HibernateException("Não foi possível reservar IDs de '" + segment + "'.", e);
+        }
+    }
+
+    // Segmento ainda sem linha: começa do zero, como o @TableGenerator.
+    private long currentValue(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "select next_val from id_generators where entity_name = ? for update")) {
+            select.setString(1, segment);
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into id_generators (entity_name, next_val) values (?, 0)")) {
+            insert.setString(1, segment);
+            insert.executeUpdate();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.projetei.api.repository;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// As entidades passaram de IDENTITY (auto_increment) para IDs reservados em blocos pela tabela
+// "id_generators". Em bancos que já têm dados, o contador de cada tabela precisa começar depois
+// do maior ID existente, senão o primeiro bloco reservado colidiria com linhas antigas. A migração V2
+// já semeia os contadores assim; aqui a conferência se repete para linhas gravadas por fora da aplicação.
+//
+// Roda uma vez na subida, depois que o Flyway aplicou as migrações e antes do servidor aceitar requisições.
+@Component
+public class IdGeneratorAligner implements SmartInitializingSingleton {
+
+    // Mesmos valores dos @IdBlock das entidades (o segmento tem o nome da tabela).
+    private static final int ALLOCATION_SIZE = 50;
+    private static final List<String> TABLES = List.of("projects", "tasks", "checklist_items", "comments", "change_log");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        TABLES.forEach(this::align);
+    }
+
+    private void align(String table) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // O IdBlockGenerator entrega os IDs (next_val - 49) até next_val; o bloco inteiro precisa
+        // estar acima do maior ID já gravado.
+        long required = maxId + ALLOCATION_SIZE + 1;
+        List<Long> current = jdbcTemplate.queryForList(
+                "select next_val from id_generators where entity_name = ?", Long.class, table);
+        if (current.isEmpty()) {
+            jdbcTemplate.update("insert into id_generators (entity_name, next_val) values (?, ?)", table, required);
+        } else if (current.get(0) < required - 1) {
+            jdbcTemplate.update("update id_generators set next_val = ? where entity_name = ? and next_val < ?",
+                    required, table, required - 1);
+        }
+    }
+}
@@ -1,12 +1,73 @@
 package br.com.projetei.api.repository;
 
+import br.com.projetei.api.dto.ExportedProjectDTO;
+import br.com.projetei.api.dto.ProjectHeaderDTO;
 import br.com.projetei.api.model.Project;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findByCode(String code);
-}
\ No newline at end of file
+
+    // Carrega o projeto já com a lista de tarefas (1 query). Os checklists e comentários
+    // das tarefas são carregados em seguida pelo TaskRepository, sem N+1.
+    @Query("select p from Project p left join fetch p.tasks where p.code = :code")
+    Optional<Project> findBoardByCode(@Param("code") String code);
+
+    @Query("select p from Project p left join fetch p.tasks where p.id = :id")
+    Optional<Project> findBoardById(@Param("id") Long id);
+
+    @Query("select distinct p from Project p left join fetch p.tasks where p.id in :ids order by p.id")
+    List<Project> findBoardsByIds(@Param("ids") Collection<Long> ids);
+
+    // Paginação por cursor (keyset): "a partir do ID X", sem OFFSET.
+    @Query("select p.id from Project p where p.id > :afterId order by p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Percorre todos os projetos com um cursor do banco, sem carregar tudo na memória.
+    // No MySQL o cursor real exige "useCursorFetch=true" na URL de conexão.
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Project p order by p.id")
+    Stream<Project> streamAllOrderById();
+
+    @Query("select new br.com.projetei.api.dto.ProjectHeaderDTO(p.id, p.name, p.code, p.dueDate, p.revision) from Project p where p.id = :id")
+    Optional<ProjectHeaderDTO> findHeaderById(@Param("id") Long id);
+
+    @Query("select new br.com.projetei.api.dto.ExportedProjectDTO(p.name, p.code, p.description, p.dueDate) from Project p where p.id = :id")
+    Optional<ExportedProjectDTO> findExportById(@Param("id") Long id);
+
+    // Consultas usadas pelo GET condicional (If-None-Match): só leem a tabela de projetos.
+    @Query("select p.revision from Project p where p.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Query("select p.revision from Project p where p.code = :code")
+    Optional<Long> findRevisionByCode(@Param("code") String code);
+
+    // Incremento atômico: o próprio banco serializa as alterações concorrentes no mesmo projeto.
+    // Em SQL nativo com um "espaço" próprio: um UPDATE em HQL (ou nativo sem espaço) faria o Hibernate
+    // esvaziar a região "projects" inteira do cache de segundo nível a cada escrita. Quem chama
+    // trava no cache só a entrada deste projeto (ver ProjectChangeTracker).
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "projects_revision"))
+    @Query(value = "update projects set revision = revision + 1 where id = :id", nativeQuery = true)
+    int incrementRevision(@Param("id") Long id);
+}
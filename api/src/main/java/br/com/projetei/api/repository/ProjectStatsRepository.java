@@ -0,0 +1,193 @@
+package br.com.projetei.api.repository;
+
+import br.com.projetei.api.model.Project;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+// Agregados dos projetos (tabelas da migração V5, sem entidades): só SQL nativo, mantido por
+// ProjectStatsTracker e lido por ProjectStatsService. As escritas usam um "espaço" próprio para o
+// Hibernate não esvaziar nenhuma região do cache de segundo nível (ver ProjectRepository.incrementRevision).
+@org.springframework.stereotype.Repository
+public interface ProjectStatsRepository extends Repository<Project, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+            insert into project_stats (project_id, tasks_todo, tasks_doing, tasks_done, priority_low, priority_medium,
+                                       priority_high, checklist_total, checklist_checked)
+            values (:projectId, 0, 0, 0, 0, 0, 0, 0, 0)
+            """, nativeQuery = true)
+    int insertEmpty(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+            update project_stats set
+                tasks_todo = tasks_todo + :todo,
+                tasks_doing = tasks_doing + :doing,
+                tasks_done = tasks_done + :done,
+                priority_low = priority_low + :low,
+                priority_medium = priority_medium + :medium,
+                priority_high = priority_high + :high,
+                checklist_total = checklist_total + :checklistTotal,
+                checklist_checked = checklist_checked + :checklistChecked
+            where project_id = :projectId
+            """, nativeQuery = true)
+    int add(@Param("projectId") Long projectId, @Param("todo") long todo, @Param("doing") long doing, @Param("done") long done,
+            @Param("low") long low, @Param("medium") long medium, @Param("high") long high,
+            @Param("checklistTotal") long checklistTotal, @Param("checklistChecked") long checklistChecked);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+            insert into project_open_due_dates (project_id, due_date, open_tasks) values (:projectId, :dueDate, :delta)
+            on duplicate key update open_tasks = open_tasks + :delta
+            """, nativeQuery = true)
+    int addOpenTasks(@Param("projectId") Long projectId, @Param("dueDate") LocalDate dueDate, @Param("delta") long delta);
+
+    // Agregados calculados a partir das tarefas já gravadas (como na migração V5), para projetos que
+    // ficaram sem linha em project_stats: gravados por fora dos serviços (ex.: a massa dos testes de carga).
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+            insert into project_stats (project_id, tasks_todo, tasks_doing, tasks_done, priority_low, priority_medium,
+                                       priority_high, checklist_total, checklist_checked)
+            select p.id,
+                   coalesce(sum(case when t.status = 'TODO' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.status = 'DOING' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.status = 'DONE' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.priority = 'LOW' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.priority = 'MEDIUM' then 1 else 0 end), 0),
+                   coalesce(sum(case when t.priority = 'HIGH' then 1 else 0 end), 0),
+                   coalesce(sum(t.checklist_total), 0),
+                   coalesce(sum(t.checklist_checked), 0)
+            from projects p
+            left join tasks t on t.project_id = p.id
+            where p.id in (:projectIds)
+            group by p.id
+            """, nativeQuery = true)
+    int insertFromTasks(@Param("projectIds") Collection<Long> projectIds);
+
+    // Chamado junto com insertFromTasks (depois de deleteOpenDueDates, se já havia linhas).
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+            insert into project_open_due_dates (project_id, due_date, open_tasks)
+            select project_id, due_date, count(*)
+            from tasks
+            where project_id in (:projectIds) and due_date is not null and status <> 'DONE'
+            group by project_id, due_date
+            """, nativeQuery = true)
+    int insertOpenDueDatesFromTasks(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = "delete from project_stats where project_id = :projectId", nativeQuery = true)
+    int deleteStats(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = "delete from project_open_due_dates where project_id = :projectId", nativeQuery = true)
+    int deleteOpenDueDates(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = "delete from project_daily_stats where project_id = :projectId", nativeQuery = true)
+    int deleteDailyStats(@Param("projectId") Long projectId);
+
+    // --- Fotografia diária (um INSERT ... SELECT para todos os projetos) ---
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = "delete from project_daily_stats where snapshot_date = :day", nativeQuery = true)
+    int deleteSnapshot(@Param("day") LocalDate day);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+            insert into project_daily_stats (project_id, snapshot_date, tasks_todo, tasks_doing, tasks_done, priority_low,
+                                             priority_medium, priority_high, checklist_total, checklist_checked, overdue)
+            select s.project_id, :day, s.tasks_todo, s.tasks_doing, s.tasks_done, s.priority_low, s.priority_medium,
+                   s.priority_high, s.checklist_total, s.checklist_checked,
+                   coalesce((select sum(d.open_tasks) from project_open_due_dates d
+                             where d.project_id = s.project_id and d.due_date < :day), 0)
+            from project_stats s
+            """, nativeQuery = true)
+    int insertSnapshot(@Param("day") LocalDate day);
+
+    // Prazos cujas tarefas foram todas concluídas, movidas ou excluídas.
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = "delete from project_open_due_dates where open_tasks = 0", nativeQuery = true)
+    int deleteEmptyOpenDueDates();
+
+    // --- Leitura ---
+
+    // Numa consulta só, pela chave primária das três tabelas: os valores atuais do projeto (com as
+    // atrasadas de hoje), como a linha de "today", e as fotografias dos dias anteriores desde "from".
+    // Sem linha de "today", o projeto não existe.
+    @Query(value = """
+            select cast(:today as date) as snapshotDate, s.tasks_todo as tasksTodo, s.tasks_doing as tasksDoing,
+                   s.tasks_done as tasksDone, s.priority_low as priorityLow, s.priority_medium as priorityMedium,
+                   s.priority_high as priorityHigh, s.checklist_total as checklistTotal,
+                   s.checklist_checked as checklistChecked,
+                   coalesce((select sum(d.open_tasks) from project_open_due_dates d
+                             where d.project_id = s.project_id and d.due_date < :today), 0) as overdue
+            from project_stats s
+            where s.project_id = :projectId
+            union all
+            select h.snapshot_date, h.tasks_todo, h.tasks_doing, h.tasks_done, h.priority_low, h.priority_medium,
+                   h.priority_high, h.checklist_total, h.checklist_checked, h.overdue
+            from project_daily_stats h
+            where h.project_id = :projectId and h.snapshot_date >= :from and h.snapshot_date < :today
+            order by 1
+            """, nativeQuery = true)
+    List<DailyStats> findSeries(@Param("projectId") Long projectId, @Param("from") LocalDate from, @Param("today") LocalDate today);
+
+    // Resumos do Dashboard: os contadores já agregados, pela chave primária, sem carregar as entidades.
+    // Um projeto sem linha em project_stats (ainda não recalculada, ver ProjectStatsTracker) aparece com tudo zerado.
+    @Query(value = """
+            select p.id as id, p.name as name, p.code as code, p.description as description, p.due_date as dueDate,
+                   coalesce(s.tasks_todo, 0) as tasksTodo, coalesce(s.tasks_doing, 0) as tasksDoing,
+                   coalesce(s.tasks_done, 0) as tasksDone
+            from projects p
+            left join project_stats s on s.project_id = p.id
+            where p.id in (:ids) or p.code in (:codes)
+            order by p.id
+            """, nativeQuery = true)
+    List<ProjectSummary> findSummaries(@Param("ids") Collection<Long> ids, @Param("codes") Collection<String> codes);
+
+    interface ProjectSummary {
+        Long getId();
+        String getName();
+        String getCode();
+        String getDescription();
+        LocalDate getDueDate();
+        long getTasksTodo();
+        long getTasksDoing();
+        long getTasksDone();
+    }
+
+    interface DailyStats {
+        LocalDate getSnapshotDate();
+        long getTasksTodo();
+        long getTasksDoing();
+        long getTasksDone();
+        long getPriorityLow();
+        long getPriorityMedium();
+        long getPriorityHigh();
+        long getChecklistTotal();
+        long getChecklistChecked();
+        long getOverdue();
+    }
+}
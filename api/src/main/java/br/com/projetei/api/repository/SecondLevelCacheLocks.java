@@ -0,0 +1,37 @@
+package br.com.projetei.api.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// Para UPDATEs nativos que mudam uma única entidade (ex.: a revisão do projeto): trava a entrada
+// dela no cache de segundo nível até o fim da transação, do mesmo jeito que o Hibernate faz num
+// UPDATE da própria entidade ou num refresh. Enquanto a trava existe, ninguém lê a entrada do
+// cache nem grava nela o que leu do banco (o valor antigo, já que a transação não fez commit);
+// depois do commit ou rollback, a próxima leitura vai ao banco. As outras entradas da região
+// continuam valendo, ao contrário do UPDATE em HQL, que esvazia a região inteira.
+@Component
+public class SecondLevelCacheLocks {
+
+    private final EntityManager entityManager;
+
+    public SecondLevelCacheLocks(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public void lockUntilCompletion(Class<?> entityClass, Object id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess cache = persister.getCacheAccessStrategy();
+        Object key = cache.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+        SoftLock lock = cache.lockItem(session, key, null);
+        cache.remove(session, key);
+        session.getActionQueue().registerProcess((success, completedSession) -> cache.unlockItem(completedSession, key, lock));
+    }
+}
@@ -1,12 +1,103 @@
 package br.com.projetei.api.repository;
 
+import br.com.projetei.api.dto.ExportedTaskDTO;
+import br.com.projetei.api.dto.TaskCardDTO;
+import br.com.projetei.api.dto.TaskChangeDTO;
 import br.com.projetei.api.model.Task;
+import br.com.projetei.api.search.IndexedText;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+// Consultas filtradas e ordenadas da listagem de tarefas: ver TaskSpecifications.
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     List<Task> findByProjectId(Long projectId);
-}
\ No newline at end of file
+
+    // Operações em lote: uma consulta para todas as tarefas do lote (só as que pertencem ao projeto).
+    List<Task> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // Inicializa, de uma vez só, os checklists de todas as tarefas de um projeto. Como as tarefas já
+    // estão no contexto de persistência, o Hibernate apenas preenche as listas. Os comentários não
+    // são carregados: o quadro leva só o resumo deles (CommentService.loadLatestComments).
+    @Query("select distinct t from Task t left join fetch t.checklist where t.project.id in :projectIds")
+    List<Task> fetchChecklistsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // O mesmo, só para as tarefas de uma página/fatia da listagem filtrada.
+    @Query("select distinct t from Task t left join fetch t.checklist where t.id in :ids")
+    List<Task> fetchChecklistsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new br.com.projetei.api.dto.TaskChangeDTO(t.id, t.title, t.description, t.dueDate, t.status, t.priority) " +
+            "from Task t where t.project.id = :projectId and t.id in :ids")
+    List<TaskChangeDTO> findChangesByIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // ETag de uma tarefa = revisão do projeto dono (toda alteração da tarefa incrementa essa revisão).
+    @Query("select t.project.revision from Task t where t.id = :taskId")
+    Optional<Long> findProjectRevisionByTaskId(@Param("taskId") Long taskId);
+
+    // Cartões do quadro com o progresso do checklist vindo dos contadores da própria tarefa (sem join com os itens).
+    @Query("""
+            select new br.com.projetei.api.dto.TaskCardDTO(
+                t.id, t.title, t.status, t.priority, t.dueDate, t.checklistChecked, t.checklistTotal)
+            from Task t
+            where t.project.id = :projectId
+            order by t.id
+            """)
+    List<TaskCardDTO> findCardsByProjectId(@Param("projectId") Long projectId);
+
+    // Textos de todas as tarefas para a reconstrução do índice de busca (cursor do banco, como em
+    // ProjectRepository.streamAllOrderById).
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.projetei.api.search.IndexedText(br.com.projetei.api.model.enums.ChangeEntityType.TASK, " +
+            "t.id, t.id, t.project.id, t.title, t.description) from Task t")
+    Stream<IndexedText> streamIndexedTexts();
+
+    // Mesmos textos, só de um projeto (indexação depois de uma importação).
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.projetei.api.search.IndexedText(br.com.projetei.api.model.enums.ChangeEntityType.TASK, " +
+            "t.id, t.id, t.project.id, t.title, t.description) from Task t where t.project.id = :projectId")
+    Stream<IndexedText> streamIndexedTextsByProjectId(@Param("projectId") Long projectId);
+
+    // Exportação: as tarefas do projeto por ID, na mesma ordem dos itens e comentários (ver ProjectTransferService).
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new br.com.projetei.api.dto.ExportedTaskDTO(t.id, t.title, t.description, t.dueDate, t.status, t.priority)
+            from Task t
+            where t.project.id = :projectId
+            order by t.id
+            """)
+    Stream<ExportedTaskDTO> streamExportByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from Task t where t.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    // Incremento/decremento atômico dos contadores do checklist (a linha da tarefa fica travada até o commit).
+    // Em SQL nativo com um "espaço" próprio, para não esvaziar a região "tasks" inteira do cache de
+    // segundo nível; o refresh que vem em seguida (TaskService.applyChecklistDelta) trava só esta tarefa.
+    // A versão sobe junto: os contadores são estado da tarefa, e o cache só aceita de volta a tarefa
+    // relida depois do commit se a versão dela for maior que a da trava.
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks_checklist_counters"))
+    @Query(value = "update tasks set checklist_total = checklist_total + :totalDelta, " +
+            "checklist_checked = checklist_checked + :checkedDelta, version = version + 1 where id = :taskId", nativeQuery = true)
+    int adjustChecklistCounters(@Param("taskId") Long taskId, @Param("totalDelta") int totalDelta,
+                                @Param("checkedDelta") int checkedDelta);
+}
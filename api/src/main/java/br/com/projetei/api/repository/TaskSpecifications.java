@@ -0,0 +1,130 @@
+package br.com.projetei.api.repository;
+
+import br.com.projetei.api.dto.TaskCursor;
+import br.com.projetei.api.dto.TaskFilter;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskSortKey;
+import br.com.projetei.api.model.enums.TaskStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Consultas de GET /api/projects/{projectId}/tasks montadas com a Criteria API (TaskRepository é um
+// JpaSpecificationExecutor). Tudo vira um único SELECT em tasks: o projeto e o status/prazo usam os
+// índices (project_id, status) e (project_id, due_date), e o filtro de checklist usa os contadores da
+// própria tarefa, sem join com os itens.
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(Long projectId, TaskFilter filter, LocalDate today) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("project").get("id"), projectId));
+            if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+                predicates.add(root.get("status").in(filter.statuses()));
+            }
+            if (filter.priorities() != null && !filter.priorities().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.priorities()));
+            }
+            Path<LocalDate> dueDate = root.get("dueDate");
+            if (filter.dueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(dueDate, filter.dueFrom()));
+            }
+            if (filter.dueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(dueDate, filter.dueTo()));
+            }
+            if (filter.overdue() != null) {
+                Path<TaskStatus> status = root.get("status");
+                predicates.add(filter.overdue()
+                        ? cb.and(cb.lessThan(dueDate, today), cb.notEqual(status, TaskStatus.DONE))
+                        : cb.or(cb.isNull(dueDate), cb.greaterThanOrEqualTo(dueDate, today), cb.equal(status, TaskStatus.DONE)));
+            }
+            if (filter.hasUncheckedChecklist() != null) {
+                Expression<Integer> checked = root.get("checklistChecked");
+                Expression<Integer> total = root.get("checklistTotal");
+                predicates.add(filter.hasUncheckedChecklist() ? cb.lessThan(checked, total) : cb.equal(checked, total));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Ordena pela chave (nulos sempre por último) e pelo ID, e, com cursor, continua depois da última
+    // tarefa recebida (keyset): "(chave, id) depois de (valor, id)", sem OFFSET.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Task> sortedAfter(TaskSortKey sort, boolean descending, TaskCursor after) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            Expression key = sortExpression(sort, root, cb);
+            boolean nullable = sort == TaskSortKey.DUE_DATE || sort == TaskSortKey.PRIORITY;
+
+            List<Order> orders = new ArrayList<>();
+            if (key != null) {
+                if (nullable) {
+                    orders.add(cb.asc(cb.selectCase().when(cb.isNull(key), 1).otherwise(0)));
+                }
+                orders.add(descending ? cb.desc(key) : cb.asc(key));
+            }
+            orders.add(descending ? cb.desc(id) : cb.asc(id));
+            query.orderBy(orders);
+
+            if (after == null) {
+                return null;
+            }
+            Predicate idAfter = descending ? cb.lessThan(id, after.id()) : cb.greaterThan(id, after.id());
+            if (key == null) {
+                return idAfter;
+            }
+            Comparable value = cursorValue(sort, after.value());
+            if (value == null) {
+                return cb.and(cb.isNull(key), idAfter);
+            }
+            Predicate beyond = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+            Predicate tie = cb.and(cb.equal(key, value), idAfter);
+            return nullable ? cb.or(beyond, tie, cb.isNull(key)) : cb.or(beyond, tie);
+        };
+    }
+
+    // A prioridade é gravada como texto: a ordem LOW < MEDIUM < HIGH (a do enum) vem de um CASE.
+    private static Expression<?> sortExpression(TaskSortKey sort, Root<Task> root, CriteriaBuilder cb) {
+        return switch (sort) {
+            case ID -> null;
+            case DUE_DATE -> root.get("dueDate");
+            case TITLE -> root.get("title");
+            case PRIORITY -> {
+                Path<TaskPriority> priority = root.get("priority");
+                CriteriaBuilder.Case<Integer> rank = cb.selectCase();
+                for (TaskPriority value : TaskPriority.values()) {
+                    rank = rank.when(cb.equal(priority, value), priorityRank(value));
+                }
+                yield rank.otherwise(cb.nullLiteral(Integer.class));
+            }
+        };
+    }
+
+    private static Comparable<?> cursorValue(TaskSortKey sort, String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (sort) {
+            case ID -> null;
+            case DUE_DATE -> LocalDate.parse(value);
+            case TITLE -> value;
+            case PRIORITY -> priorityRank(TaskPriority.valueOf(value));
+        };
+    }
+
+    private static int priorityRank(TaskPriority priority) {
+        return priority.ordinal() + 1;
+    }
+}
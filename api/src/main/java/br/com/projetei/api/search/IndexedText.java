@@ -0,0 +1,34 @@
+package br.com.projetei.api.search;
+
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.ChangeEntityType;
+
+// Texto de uma entidade como vai para o índice de busca: uma tarefa (título + descrição),
+// um item de checklist ou um comentário, com a tarefa e o projeto a que pertence.
+public record IndexedText(
+        ChangeEntityType type,
+        Long id,
+        Long taskId,
+        Long projectId,
+        String title,
+        String text) {
+
+    public static IndexedText of(Task task) {
+        return new IndexedText(ChangeEntityType.TASK, task.getId(), task.getId(), task.getProject().getId(),
+                task.getTitle(), task.getDescription());
+    }
+
+    public static IndexedText of(ChecklistItem item) {
+        Task task = item.getTask();
+        return new IndexedText(ChangeEntityType.CHECKLIST_ITEM, item.getId(), task.getId(), task.getProject().getId(),
+                null, item.getText());
+    }
+
+    public static IndexedText of(Comment comment) {
+        Task task = comment.getTask();
+        return new IndexedText(ChangeEntityType.COMMENT, comment.getId(), task.getId(), task.getProject().getId(),
+                null, comment.getText());
+    }
+}
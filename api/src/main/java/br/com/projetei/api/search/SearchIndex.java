@@ -0,0 +1,234 @@
+package br.com.projetei.api.search;
+
+import br.com.projetei.api.dto.SearchHitDTO;
+import br.com.projetei.api.model.enums.ChangeEntityType;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Índice invertido (Lucene) em disco local com os textos de tarefas, itens de checklist e comentários.
+//
+// - Um documento por entidade, identificado por "<tipo>:<id>", com a tarefa e o projeto de cada um
+//   (excluir uma tarefa ou um projeto remove todos os documentos dele de uma vez).
+// - As alterações ficam visíveis para a busca assim que aplicadas (leitor near-real-time). O commit em
+//   disco é periódico: se o processo cair antes dele, as últimas alterações se perdem e o índice
+//   precisa ser reconstruído (projetei.search.rebuild=true).
+// - Com projetei.search.index-dir vazio o índice fica só em memória (usado nos testes).
+@Component
+public class SearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TASK_ID = "taskId";
+    private static final String PROJECT_ID = "projectId";
+    private static final String TITLE = "title";
+    private static final String TEXT = "text";
+
+    // O título da tarefa pesa mais que descrição, itens e comentários
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of(TITLE, 2f, TEXT, 1f);
+
+    private final Analyzer analyzer = new PortugueseTextAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ScheduledExecutorService committer;
+
+    public SearchIndex(
+            @Value("${projetei.search.index-dir:data/search-index}") String indexDir,
+            @Value("${projetei.search.commit-interval:5s}") Duration commitInterval) throws IOException {
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = commitInterval.toMillis();
+        committer.scheduleWithFixedDelay(this::commitQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    // Aplica, na ordem, as inclusões/atualizações e exclusões de uma transação já confirmada.
+    public synchronized void apply(List<Change> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Change change : changes) {
+            if (change.upsert() != null) {
+                IndexedText text = change.upsert();
+                writer.updateDocument(byKey(text.type(), text.id()), toDocument(text));
+            } else {
+                writer.deleteDocuments(change.delete());
+            }
+        }
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    // Troca todo o conteúdo do índice. As buscas continuam vendo o índice anterior até o fim.
+    public synchronized long replaceAll(Stream<IndexedText> texts) throws IOException {
+        writer.deleteAll();
+        long count = 0;
+        for (IndexedText text : (Iterable<IndexedText>) texts::iterator) {
+            writer.addDocument(toDocument(text));
+            count++;
+        }
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+        return count;
+    }
+
+    // Busca por relevância. "offset" resultados são pulados; "hasMore" indica se existem outros depois da página.
+    public Page search(String queryText, Long projectId, int offset, int limit) throws IOException {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, SEARCH_FIELDS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText);
+        if (textQuery == null) {
+            return new Page(List.of(), false);
+        }
+        Query query = projectId == null ? textQuery : new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(PROJECT_ID, projectId.toString())), BooleanClause.Occur.FILTER)
+                .build();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, offset + limit + 1);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            List<SearchHitDTO> hits = new ArrayList<>();
+            for (int i = offset; i < Math.min(scoreDocs.length, offset + limit); i++) {
+                hits.add(toHit(searcher.storedFields().document(scoreDocs[i].doc), scoreDocs[i].score));
+            }
+            return new Page(hits, scoreDocs.length > offset + limit);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        committer.shutdownNow();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void commitQuietly() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao gravar o índice de busca em disco", e);
+        }
+    }
+
+    private static Document toDocument(IndexedText text) {
+        Document document = new Document();
+        document.add(new StringField(KEY, byKey(text.type(), text.id()).text(), Field.Store.NO));
+        document.add(new StringField(TYPE, text.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, text.id()));
+        document.add(new StringField(TASK_ID, text.taskId().toString(), Field.Store.YES));
+        document.add(new StringField(PROJECT_ID, text.projectId().toString(), Field.Store.YES));
+        if (text.title() != null) {
+            document.add(new TextField(TITLE, text.title(), Field.Store.YES));
+        }
+        if (text.text() != null) {
+            document.add(new TextField(TEXT, text.text(), Field.Store.YES));
+        }
+        return document;
+    }
+
+    private static SearchHitDTO toHit(Document document, float score) {
+        return new SearchHitDTO(
+                ChangeEntityType.valueOf(document.get(TYPE)),
+                document.getField(ID).numericValue().longValue(),
+                Long.valueOf(document.get(TASK_ID)),
+                Long.valueOf(document.get(PROJECT_ID)),
+                document.get(TITLE),
+                document.get(TEXT),
+                score);
+    }
+
+    static Term byTask(Long taskId) {
+        return new Term(TASK_ID, taskId.toString());
+    }
+
+    static Term byProject(Long projectId) {
+        return new Term(PROJECT_ID, projectId.toString());
+    }
+
+    static Term byKey(ChangeEntityType type, Long id) {
+        return new Term(KEY, type + ":" + id);
+    }
+
+    // Uma alteração pendente: um texto a incluir/atualizar ou um termo cujos documentos serão excluídos.
+    public record Change(IndexedText upsert, Term delete) {
+    }
+
+    public record Page(List<SearchHitDTO> hits, boolean hasMore) {
+    }
+
+    // Minúsculas, sem acentos e com o radical "leve" do português: "Faturas" encontra "fatura" e "comentário", "comentario".
+    static final class PortugueseTextAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            StandardTokenizer source = new StandardTokenizer();
+            TokenStream result = new LowerCaseFilter(source);
+            result = new ASCIIFoldingFilter(result);
+            result = new PortugueseLightStemFilter(result);
+            return new TokenStreamComponents(source, result);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.projetei.api.search;
+
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.ChangeEntityType;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import br.com.projetei.api.repository.CommentRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Mantém o SearchIndex em dia com o banco.
+//
+// - Atualização incremental: o ProjectChangeTracker avisa cada alteração feita pelos serviços. O texto
+//   das entidades é lido no fim da transação (beforeCommit, já com o estado final) e só vai para o
+//   índice depois do commit: uma transação desfeita não deixa rastro na busca.
+// - Reconstrução completa: na subida da aplicação, se o índice estiver vazio ou com
+//   projetei.search.rebuild=true. Para reconstruir "offline", sem atender requisições:
+//   java -jar api.jar --spring.main.web-application-type=none --projetei.search.rebuild=true
+@Component
+public class SearchIndexer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexer.class);
+
+    private static final Object PENDING_KEY = new Object();
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    private final SearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+
+    public SearchIndexer(SearchIndex searchIndex, TaskRepository taskRepository, ChecklistItemRepository checklistItemRepository,
+                         CommentRepository commentRepository, PlatformTransactionManager transactionManager,
+                         @Value("${projetei.search.rebuild:false}") boolean rebuildOnStartup) {
+        this.searchIndex = searchIndex;
+        this.taskRepository = taskRepository;
+        this.checklistItemRepository = checklistItemRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    // Roda antes do servidor web começar a aceitar requisições.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (rebuildOnStartup || searchIndex.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    public long rebuild() {
+        long started = System.nanoTime();
+        long documents = readOnlyTransaction.execute(status -> {
+            try (Stream<IndexedText> tasks = taskRepository.streamIndexedTexts();
+                 Stream<IndexedText> items = checklistItemRepository.streamIndexedTexts();
+                 Stream<IndexedText> comments = commentRepository.streamIndexedTexts()) {
+                return searchIndex.replaceAll(Stream.of(tasks, items, comments).flatMap(texts -> texts));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Índice de busca reconstruído: {} documentos em {} ms", documents, (System.nanoTime() - started) / 1_000_000);
+        return documents;
+    }
+
+    // Projeto criado já com tarefas (e seus itens e comentários) no corpo da requisição.
+    public void projectCreated(Project project) {
+        if (project.getTasks() == null) {
+            return;
+        }
+        for (Task task : project.getTasks()) {
+            taskChanged(task);
+            if (task.getChecklist() != null) {
+                task.getChecklist().forEach(this::checklistItemChanged);
+            }
+            if (task.getComments() != null) {
+                task.getComments().forEach(this::commentChanged);
+            }
+        }
+    }
+
+    // Projeto importado (ProjectTransferService): os dados já foram confirmados em várias transações,
+    // então os textos são relidos do banco por cursor e vão para o índice em blocos.
+    public void projectImported(Long projectId) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<IndexedText> tasks = taskRepository.streamIndexedTextsByProjectId(projectId);
+                 Stream<IndexedText> items = checklistItemRepository.streamIndexedTextsByProjectId(projectId);
+                 Stream<IndexedText> comments = commentRepository.streamIndexedTextsByProjectId(projectId)) {
+                List<SearchIndex.Change> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+                Stream.of(tasks, items, comments).flatMap(texts -> texts).forEach(text -> {
+                    batch.add(new SearchIndex.Change(text, null));
+                    if (batch.size() == IMPORT_BATCH_SIZE) {
+                        apply(batch);
+                        batch.clear();
+                    }
+                });
+                apply(batch);
+            }
+        });
+    }
+
+    public void projectDeleted(Project project) {
+        enqueue(() -> new SearchIndex.Change(null, SearchIndex.byProject(project.getId())));
+    }
+
+    public void taskChanged(Task task) {
+        enqueue(() -> new SearchIndex.Change(IndexedText.of(task), null));
+    }
+
+    // Some também com os itens e comentários da tarefa.
+    public void taskDeleted(Task task) {
+        SearchIndex.Change change = new SearchIndex.Change(null, SearchIndex.byTask(task.getId()));
+        enqueue(() -> change);
+    }
+
+    public void checklistItemChanged(ChecklistItem item) {
+        enqueue(() -> new SearchIndex.Change(IndexedText.of(item), null));
+    }
+
+    public void checklistItemDeleted(ChecklistItem item) {
+        SearchIndex.Change change = new SearchIndex.Change(null, SearchIndex.byKey(ChangeEntityType.CHECKLIST_ITEM, item.getId()));
+        enqueue(() -> change);
+    }
+
+    public void commentChanged(Comment comment) {
+        enqueue(() -> new SearchIndex.Change(IndexedText.of(comment), null));
+    }
+
+    public void commentDeleted(Comment comment) {
+        SearchIndex.Change change = new SearchIndex.Change(null, SearchIndex.byKey(ChangeEntityType.COMMENT, comment.getId()));
+        enqueue(() -> change);
+    }
+
+    // Fora de uma transação (ex.: criação de projeto), a alteração vai direto para o índice.
+    private void enqueue(Supplier<SearchIndex.Change> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(change.get()));
+            return;
+        }
+        pendingChanges().add(change);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Supplier<SearchIndex.Change>> pendingChanges() {
+        List<Supplier<SearchIndex.Change>> pending =
+                (List<Supplier<SearchIndex.Change>>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            List<Supplier<SearchIndex.Change>> newPending = new ArrayList<>();
+            List<SearchIndex.Change> resolved = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, newPending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    newPending.forEach(change -> resolved.add(change.get()));
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(resolved);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = newPending;
+        }
+        return pending;
+    }
+
+    // O banco já confirmou a alteração: uma falha aqui deixa o índice desatualizado, mas não desfaz nada.
+    private void apply(List<SearchIndex.Change> changes) {
+        try {
+            searchIndex.apply(changes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Falha ao atualizar o índice de busca; reconstrua com projetei.search.rebuild=true", e);
+        }
+    }
+}
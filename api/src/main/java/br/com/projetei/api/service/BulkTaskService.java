@@ -0,0 +1,306 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.BoardEventDTO;
+import br.com.projetei.api.dto.BulkChecklistItemOperationDTO;
+import br.com.projetei.api.dto.BulkOperationResultDTO;
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkResultDTO;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.realtime.BoardEventHub;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import br.com.projetei.api.repository.CommentRepository;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Operações em lote sobre tarefas e itens de checklist de um projeto (uma requisição, uma transação).
+// Os registros envolvidos são carregados com uma consulta por tipo (nunca um findById por operação),
+// as escritas saem em JDBC batch, e cada operação recebe o seu resultado (OK, NOT_FOUND ou INVALID).
+// Se o lote esbarrar numa escrita concorrente (@Version, deadlock), a transação inteira é repetida
+// por ConcurrentUpdateRetry; esgotadas as tentativas, a API responde 409 e nada do lote foi aplicado.
+@Service
+public class BulkTaskService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final CommentRepository commentRepository;
+    private final ProjectChangeTracker changeTracker;
+    private final BoardEventHub boardEvents;
+    private final TaskService taskService;
+    private final ConcurrentUpdateRetry concurrentUpdateRetry;
+    private final EntityManager entityManager;
+    private final TaskMetrics taskMetrics;
+    private final ProjectStatsTracker statsTracker;
+
+    public BulkTaskService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                           ChecklistItemRepository checklistItemRepository, CommentRepository commentRepository,
+                           ProjectChangeTracker changeTracker, BoardEventHub boardEvents, TaskService taskService,
+                           ConcurrentUpdateRetry concurrentUpdateRetry, EntityManager entityManager, TaskMetrics taskMetrics,
+                           ProjectStatsTracker statsTracker) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.checklistItemRepository = checklistItemRepository;
+        this.commentRepository = commentRepository;
+        this.changeTracker = changeTracker;
+        this.boardEvents = boardEvents;
+        this.taskService = taskService;
+        this.concurrentUpdateRetry = concurrentUpdateRetry;
+        this.entityManager = entityManager;
+        this.taskMetrics = taskMetrics;
+        this.statsTracker = statsTracker;
+    }
+
+    public BulkResultDTO applyTaskOperations(Long projectId, List<BulkTaskOperationDTO> operations) {
+        return concurrentUpdateRetry.inTransaction(() -> applyTaskOperationsOnce(projectId, operations), () -> null);
+    }
+
+    public BulkResultDTO applyChecklistItemOperations(Long projectId, List<BulkChecklistItemOperationDTO> operations) {
+        return concurrentUpdateRetry.inTransaction(() -> applyChecklistItemOperationsOnce(projectId, operations), () -> null);
+    }
+
+    private BulkResultDTO applyTaskOperationsOnce(Long projectId, List<BulkTaskOperationDTO> operations) {
+        Project project = findProject(projectId);
+
+        Set<Long> ids = operations.stream()
+                .filter(op -> op.op() != BulkOperationType.CREATE)
+                .map(BulkTaskOperationDTO::taskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = ids.isEmpty() ? new LinkedHashMap<>()
+                : byId(taskRepository.findByProjectIdAndIdIn(projectId, ids), Task::getId);
+
+        List<Task> deleted = new ArrayList<>();
+        List<BulkOperationResultDTO> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            BulkTaskOperationDTO op = operations.get(index);
+            if (op.op() == null) {
+                results.add(BulkOperationResultDTO.invalid(index, null, op.taskId(), "Campo 'op' é obrigatório"));
+                continue;
+            }
+            if (op.op() == BulkOperationType.CREATE) {
+                results.add(createTask(index, project, op));
+                continue;
+            }
+            Task task = op.taskId() == null ? null : tasks.get(op.taskId());
+            if (task == null) {
+                results.add(BulkOperationResultDTO.notFound(index, op.op(), op.taskId(), "Tarefa não encontrada neste projeto"));
+                continue;
+            }
+            switch (op.op()) {
+                case UPDATE -> {
+                    if (op.title() != null && op.title().isBlank()) {
+                        results.add(BulkOperationResultDTO.invalid(index, op.op(), task.getId(), "O título não pode ficar vazio"));
+                        continue;
+                    }
+                    TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
+                    if (op.title() != null) task.setTitle(op.title());
+                    if (op.description() != null) task.setDescription(op.description());
+                    if (op.dueDate() != null) task.setDueDate(op.dueDate());
+                    if (op.priority() != null) task.setPriority(op.priority());
+                    changeTracker.taskChanged(task);
+                    statsTracker.taskChanged(task, before);
+                }
+                case STATUS -> {
+                    if (op.status() == null) {
+                        results.add(BulkOperationResultDTO.invalid(index, op.op(), task.getId(), "Campo 'status' é obrigatório"));
+                        continue;
+                    }
+                    TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
+                    taskMetrics.statusChanged(task.getStatus(), op.status(), "bulk");
+                    task.setStatus(op.status());
+                    changeTracker.taskChanged(task);
+                    statsTracker.taskChanged(task, before);
+                    if (before.status() != task.getStatus()) {
+                        boardEvents.publish(project, changeTracker.revisionOf(project), BoardEventDTO.taskStatus(task));
+                    }
+                }
+                case DELETE -> {
+                    tasks.remove(task.getId());
+                    deleted.add(task);
+                    changeTracker.taskDeleted(task);
+                    statsTracker.taskRemoved(task);
+                }
+                default -> {
+                    results.add(BulkOperationResultDTO.invalid(index, op.op(), task.getId(), "Operação não suportada para tarefas"));
+                    continue;
+                }
+            }
+            results.add(BulkOperationResultDTO.ok(index, op.op(), task.getId()));
+        }
+
+        deleteTasks(deleted);
+        return BulkResultDTO.of(results);
+    }
+
+    private BulkResultDTO applyChecklistItemOperationsOnce(Long projectId, List<BulkChecklistItemOperationDTO> operations) {
+        Project project = findProject(projectId);
+
+        Set<Long> itemIds = operations.stream()
+                .filter(op -> op.op() != BulkOperationType.CREATE)
+                .map(BulkChecklistItemOperationDTO::itemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ChecklistItem> items = itemIds.isEmpty() ? new LinkedHashMap<>()
+                : byId(checklistItemRepository.findWithTaskByProjectIdAndIdIn(projectId, itemIds), ChecklistItem::getId);
+
+        // Tarefas que vão receber itens novos: uma única consulta (as dos itens já vieram no join acima).
+        Set<Long> taskIds = operations.stream()
+                .filter(op -> op.op() == BulkOperationType.CREATE)
+                .map(BulkChecklistItemOperationDTO::taskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = taskIds.isEmpty() ? Map.of()
+                : byId(taskRepository.findByProjectIdAndIdIn(projectId, taskIds), Task::getId);
+
+        // Variação dos contadores do checklist por tarefa: {total, marcados}.
+        Map<Task, int[]> deltas = new LinkedHashMap<>();
+        List<BulkOperationResultDTO> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            BulkChecklistItemOperationDTO op = operations.get(index);
+            if (op.op() == null) {
+                results.add(BulkOperationResultDTO.invalid(index, null, op.itemId(), "Campo 'op' é obrigatório"));
+                continue;
+            }
+            if (op.op() == BulkOperationType.CREATE) {
+                Task task = op.taskId() == null ? null : tasks.get(op.taskId());
+                if (task == null) {
+                    results.add(BulkOperationResultDTO.notFound(index, op.op(), op.taskId(), "Tarefa não encontrada neste projeto"));
+                } else if (op.text() == null || op.text().isBlank()) {
+                    results.add(BulkOperationResultDTO.invalid(index, op.op(), null, "Campo 'text' é obrigatório"));
+                } else {
+                    ChecklistItem item = newChecklistItem(task, op.text());
+                    entityManager.persist(item);
+                    changeTracker.checklistItemChanged(item);
+                    delta(deltas, task)[0]++;
+                    results.add(BulkOperationResultDTO.ok(index, op.op(), item.getId()));
+                }
+                continue;
+            }
+            ChecklistItem item = op.itemId() == null ? null : items.get(op.itemId());
+            if (item == null) {
+                results.add(BulkOperationResultDTO.notFound(index, op.op(), op.itemId(), "Item de checklist não encontrado neste projeto"));
+                continue;
+            }
+            switch (op.op()) {
+                case UPDATE -> {
+                    if (op.text() != null && op.text().isBlank()) {
+                        results.add(BulkOperationResultDTO.invalid(index, op.op(), item.getId(), "O texto não pode ficar vazio"));
+                        continue;
+                    }
+                    if (op.text() != null) item.setText(op.text());
+                    if (op.checked() != null && op.checked() != item.isChecked()) {
+                        item.setChecked(op.checked());
+                        delta(deltas, item.getTask())[1] += item.isChecked() ? 1 : -1;
+                    }
+                    changeTracker.checklistItemChanged(item);
+                    boardEvents.publish(project, changeTracker.revisionOf(project), BoardEventDTO.checklistItem(item));
+                }
+                case DELETE -> {
+                    items.remove(item.getId());
+                    entityManager.remove(item);
+                    int[] delta = delta(deltas, item.getTask());
+                    delta[0]--;
+                    if (item.isChecked()) delta[1]--;
+                    changeTracker.checklistItemDeleted(item);
+                }
+                default -> {
+                    results.add(BulkOperationResultDTO.invalid(index, op.op(), item.getId(), "Operação não suportada para itens de checklist"));
+                    continue;
+                }
+            }
+            results.add(BulkOperationResultDTO.ok(index, op.op(), item.getId()));
+        }
+
+        // Contadores e status de cada tarefa afetada são ajustados uma vez só, com a soma das variações.
+        // O evento de status só sai para as tarefas cujo status o checklist realmente mudou.
+        deltas.forEach((task, delta) -> {
+            boolean statusChanged = taskService.applyChecklistDelta(task, delta[0], delta[1]);
+            changeTracker.taskChanged(task);
+            if (statusChanged) {
+                boardEvents.publish(project, changeTracker.revisionOf(project), BoardEventDTO.taskStatus(task));
+            }
+        });
+        return BulkResultDTO.of(results);
+    }
+
+    private BulkOperationResultDTO createTask(int index, Project project, BulkTaskOperationDTO op) {
+        if (op.title() == null || op.title().isBlank()) {
+            return BulkOperationResultDTO.invalid(index, op.op(), null, "Campo 'title' é obrigatório");
+        }
+        if (op.checklist() != null && op.checklist().stream().anyMatch(text -> text == null || text.isBlank())) {
+            return BulkOperationResultDTO.invalid(index, op.op(), null, "Itens de checklist não podem ficar vazios");
+        }
+        Task task = new Task();
+        task.setProject(project);
+        task.setTitle(op.title());
+        task.setDescription(op.description());
+        task.setDueDate(op.dueDate());
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(op.priority() != null ? op.priority() : TaskPriority.MEDIUM);
+        task.setChecklist(new ArrayList<>());
+        task.setComments(new ArrayList<>());
+        if (op.checklist() != null) {
+            op.checklist().forEach(text -> task.getChecklist().add(newChecklistItem(task, text)));
+        }
+        entityManager.persist(task); // cascade ALL: os itens do checklist vão junto, no mesmo lote (e os contadores já nascem certos)
+
+        changeTracker.taskChanged(task);
+        task.getChecklist().forEach(changeTracker::checklistItemChanged);
+        statsTracker.taskAdded(task);
+        taskMetrics.taskCreated();
+        return BulkOperationResultDTO.ok(index, op.op(), task.getId());
+    }
+
+    // Exclusões no fim do lote, com três DELETEs (comentários, checklists e tarefas) em vez de
+    // carregar e remover cada filho individualmente.
+    private void deleteTasks(List<Task> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = deleted.stream().map(Task::getId).collect(Collectors.toSet());
+        commentRepository.deleteByTaskIds(ids);
+        checklistItemRepository.deleteByTaskIds(ids);
+        taskRepository.deleteByIds(ids);
+        deleted.forEach(entityManager::detach);
+    }
+
+    private static ChecklistItem newChecklistItem(Task task, String text) {
+        ChecklistItem item = new ChecklistItem();
+        item.setText(text);
+        item.setChecked(false);
+        item.setTask(task);
+        return item;
+    }
+
+    private static int[] delta(Map<Task, int[]> deltas, Task task) {
+        return deltas.computeIfAbsent(task, t -> new int[2]);
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        Map<Long, T> map = new LinkedHashMap<>();
+        entities.forEach(entity -> map.put(id.apply(entity), entity));
+        return map;
+    }
+}
@@ -1,30 +1,101 @@
 package br.com.projetei.api.service;
 
+import br.com.projetei.api.dto.BoardEventDTO;
+import br.com.projetei.api.dto.CommentChangeDTO;
+import br.com.projetei.api.dto.CommentCursor;
 import br.com.projetei.api.dto.CommentDTO;
 import br.com.projetei.api.dto.UpdateCommentDTO;
 import br.com.projetei.api.model.Comment;
 import br.com.projetei.api.model.Task;
+import br.com.projetei.api.realtime.BoardEventHub;
 import br.com.projetei.api.repository.CommentRepository;
+import br.com.projetei.api.repository.CommentRepository.LatestComment;
 import br.com.projetei.api.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
+    private final ProjectChangeTracker changeTracker;
+    private final BoardEventHub boardEvents;
+    private final ConcurrentUpdateRetry concurrentUpdateRetry;
 
-    public CommentService(CommentRepository commentRepository, TaskRepository taskRepository) {
+    public CommentService(CommentRepository commentRepository, TaskRepository taskRepository, ProjectChangeTracker changeTracker,
+                          BoardEventHub boardEvents, ConcurrentUpdateRetry concurrentUpdateRetry) {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
+        this.changeTracker = changeTracker;
+        this.boardEvents = boardEvents;
+        this.concurrentUpdateRetry = concurrentUpdateRetry;
     }
 
-    @Transactional
+    // Quantos comentários (os mais recentes) vão junto com cada tarefa; o resto vem paginado.
+    static final int LATEST_COMMENTS = 3;
+
+    // Página de comentários de uma tarefa, em ordem cronológica, depois do cursor (null = do início).
+    public List<CommentChangeDTO> findCommentsPage(Long taskId, CommentCursor after, int limit) {
+        List<CommentChangeDTO> page;
+        if (after == null) {
+            page = commentRepository.findFirstPage(taskId, Limit.of(limit));
+        } else if (after.createdAt() == null) {
+            page = commentRepository.findPageAfterUndated(taskId, after.id(), Limit.of(limit));
+        } else {
+            page = commentRepository.findPageAfter(taskId, after.createdAt(), after.id(), Limit.of(limit));
+        }
+        if (page.isEmpty() && !taskRepository.existsById(taskId)) {
+            throw new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId);
+        }
+        return page;
+    }
+
+    // Preenche o resumo dos comentários (total e os mais recentes) de uma tarefa, das tarefas de um
+    // ou mais projetos (quadros) ou de uma lista de tarefas, com uma consulta só, qualquer que seja o
+    // número de comentários.
+    public Task withLatestComments(Task task) {
+        attachLatestComments(List.of(task), commentRepository.findLatestByTaskId(task.getId(), LATEST_COMMENTS));
+        return task;
+    }
+
+    public void loadLatestComments(Collection<Long> projectIds, Collection<Task> tasks) {
+        if (!tasks.isEmpty()) {
+            attachLatestComments(tasks, commentRepository.findLatestByProjectIds(projectIds, LATEST_COMMENTS));
+        }
+    }
+
+    public void loadLatestComments(Collection<Task> tasks) {
+        if (!tasks.isEmpty()) {
+            attachLatestComments(tasks, commentRepository.findLatestByTaskIds(tasks.stream().map(Task::getId).toList(), LATEST_COMMENTS));
+        }
+    }
+
+    private static void attachLatestComments(Collection<Task> tasks, List<LatestComment> rows) {
+        Map<Long, List<LatestComment>> byTask = rows.stream().collect(Collectors.groupingBy(LatestComment::getTaskId));
+        for (Task task : tasks) {
+            List<LatestComment> latest = byTask.getOrDefault(task.getId(), List.of());
+            task.setCommentSummary(latest.isEmpty() ? 0 : latest.get(0).getTotal(), latest.stream()
+                    .map(c -> new CommentChangeDTO(c.getId(), c.getTaskId(), c.getText(), c.getAuthorName(), c.getCreatedAt()))
+                    .toList());
+        }
+    }
+
+    // Comentários também travam a linha do projeto (revisão) e consomem IDs do gerador em tabela,
+    // então entram na mesma fila de escritas das tarefas (ver ConcurrentUpdateRetry). Fora dela,
+    // uma rajada de comentários ocupava as conexões que o gerador de IDs precisava.
     public Comment addCommentToTask(Long taskId, CommentDTO commentDto) {
+        return concurrentUpdateRetry.inTransaction(() -> addCommentToTaskOnce(taskId, commentDto), () -> null);
+    }
+
+    private Comment addCommentToTaskOnce(Long taskId, CommentDTO commentDto) {
         // 1. Busca a tarefa à qual o comentário pertencerá.
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
@@ -37,26 +108,37 @@ public class CommentService {
         newComment.setTask(task); // Faz a associação com a tarefa.
 
         // 3. Salva o novo comentário no banco.
-        return commentRepository.save(newComment);
+        Comment savedComment = commentRepository.save(newComment);
+        changeTracker.commentChanged(savedComment);
+        boardEvents.publish(task.getProject(), changeTracker.revisionOf(task.getProject()), BoardEventDTO.commentAdded(savedComment));
+        return savedComment;
     }
 
     public void deleteComment(Long commentId) {
-        if (!commentRepository.existsById(commentId)) {
-            throw new EntityNotFoundException("Comentário não encontrado com o ID: " + commentId);
-        }
-        commentRepository.deleteById(commentId);
+        concurrentUpdateRetry.inTransaction(() -> deleteCommentOnce(commentId), () -> null);
+    }
+
+    private void deleteCommentOnce(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new EntityNotFoundException("Comentário não encontrado com o ID: " + commentId));
+        commentRepository.delete(comment);
+        changeTracker.commentDeleted(comment);
     }
 
-    @Transactional
     public Comment updateComment(Long commentId, UpdateCommentDTO dto) {
+        return concurrentUpdateRetry.inTransaction(() -> updateCommentOnce(commentId, dto), () -> null);
+    }
+
+    private Comment updateCommentOnce(Long commentId, UpdateCommentDTO dto) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comentário não encontrado com o ID: " + commentId));
 
         // Aplica a alteração a partir do DTO
         comment.setText(dto.getText());
 
-        // Como o método é @Transactional, a alteração será salva automaticamente.
+        // Como o método roda numa transação, a alteração será salva automaticamente.
         // Mas podemos usar o save() para retornar o objeto atualizado.
+        changeTracker.commentChanged(comment);
         return commentRepository.save(comment);
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package br.com.projetei.api.service;
+
+// Uma escrita perdeu a disputa com escritas concorrentes em todas as tentativas (ver ConcurrentUpdateRetry).
+// Carrega o estado atual do recurso, devolvido ao cliente junto com o 409.
+public class ConcurrentUpdateConflictException extends RuntimeException {
+
+    private final transient Object currentState;
+
+    public ConcurrentUpdateConflictException(String message, Object currentState, Throwable cause) {
+        super(message, cause);
+        this.currentState = currentState;
+    }
+
+    public Object getCurrentState() {
+        return currentState;
+    }
+}
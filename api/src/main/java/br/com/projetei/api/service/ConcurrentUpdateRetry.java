@@ -0,0 +1,115 @@
+package br.com.projetei.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.hibernate.StaleStateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Executa uma escrita numa transação própria e, se ela perder uma disputa com outra escrita
+// (versão desatualizada no @Version, deadlock ou timeout de lock), repete a transação inteira
+// com os dados relidos do banco. As tentativas são limitadas e espaçadas com backoff exponencial
+// e jitter, para que quem disputa a mesma linha não volte todo mundo ao mesmo tempo.
+//
+// Esgotadas as tentativas, lança ConcurrentUpdateConflictException com o estado atual do recurso
+// (a API responde 409 com esse estado, e o cliente decide se reaplica a alteração).
+//
+// Se já existe uma transação em andamento, não há como repetir só um pedaço dela: o trabalho roda
+// uma vez, dentro da transação de quem chamou, e a falha sobe normalmente.
+@Component
+public class ConcurrentUpdateRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter retried;
+    private final Counter exhausted;
+
+    public ConcurrentUpdateRetry(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${projetei.concurrency.max-attempts:5}") int maxAttempts,
+            @Value("${projetei.concurrency.initial-backoff:10ms}") Duration initialBackoff,
+            @Value("${projetei.concurrency.max-backoff:200ms}") Duration maxBackoff) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retried = meterRegistry.counter("projetei.concurrency.conflicts", "outcome", "retried");
+        this.exhausted = meterRegistry.counter("projetei.concurrency.conflicts", "outcome", "exhausted");
+    }
+
+    // currentState é chamado só quando as tentativas acabam, fora da transação que falhou.
+    public <T> T inTransaction(Supplier<T> work, Supplier<?> currentState) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (RuntimeException e) {
+                if (!isConcurrencyFailure(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw new ConcurrentUpdateConflictException(
+                            "O recurso foi alterado por outra requisição ao mesmo tempo; tente novamente a partir do estado atual.",
+                            currentState.get(), e);
+                }
+                retried.increment();
+                pause(attempt);
+            }
+        }
+    }
+
+    public void inTransaction(Runnable work, Supplier<?> currentState) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        }, currentState);
+    }
+
+    // Backoff exponencial (initial, 2x, 4x... até max) com metade fixa e metade aleatória.
+    private void pause(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        long half = ceiling / 2;
+        long millis = half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateConflictException("Requisição interrompida enquanto aguardava nova tentativa.", null, e);
+        }
+    }
+
+    // O flush no commit chega traduzido pelo Spring; o que sai direto do EntityManager, não.
+    private static boolean isConcurrencyFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException
+                    || cause instanceof PessimisticLockingFailureException
+                    || cause instanceof OptimisticLockException
+                    || cause instanceof PessimisticLockException
+                    || cause instanceof StaleStateException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.ChecklistItemChangeDTO;
+import br.com.projetei.api.dto.CommentChangeDTO;
+import br.com.projetei.api.dto.DeletedEntityDTO;
+import br.com.projetei.api.dto.ProjectChangesDTO;
+import br.com.projetei.api.dto.ProjectHeaderDTO;
+import br.com.projetei.api.dto.TaskChangeDTO;
+import br.com.projetei.api.model.ChangeLogEntry;
+import br.com.projetei.api.model.enums.ChangeEntityType;
+import br.com.projetei.api.model.enums.ChangeOperation;
+import br.com.projetei.api.repository.ChangeLogRepository;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import br.com.projetei.api.repository.CommentRepository;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import br.com.projetei.api.repository.ChangeLogRepository.PrunableRevision;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Lado de leitura do change log: monta o "delta" de um projeto a partir de um cursor (revisão).
+// O custo é proporcional ao número de alterações desde o cursor, não ao tamanho do quadro.
+// Também faz a retenção: as entradas mais velhas que projetei.changes.retention são apagadas uma vez
+// por dia, e um cursor anterior ao que foi apagado recebe "resyncRequired".
+@Service
+public class ProjectChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectChangeFeedService.class);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final CommentRepository commentRepository;
+    private final Duration retention;
+
+    public ProjectChangeFeedService(ChangeLogRepository changeLogRepository, ProjectRepository projectRepository,
+                                    TaskRepository taskRepository, ChecklistItemRepository checklistItemRepository,
+                                    CommentRepository commentRepository,
+                                    @Value("${projetei.changes.retention:30d}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.checklistItemRepository = checklistItemRepository;
+        this.commentRepository = commentRepository;
+        this.retention = retention;
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectChangesDTO findChangesSince(Long projectId, long since, int maxEntries) {
+        ProjectHeaderDTO header = projectRepository.findHeaderById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
+        if (since < changeLogRepository.findFloor(projectId).orElse(0L)) {
+            return ProjectChangesDTO.resyncRequired(header);
+        }
+
+        List<ChangeLogEntry> entries = changeLogRepository
+                .findByProjectIdAndRevisionGreaterThanOrderByRevisionAscIdAsc(projectId, since, Limit.of(maxEntries + 1));
+
+        // Uma página nunca corta uma revisão ao meio, senão o cursor pularia parte dela.
+        boolean hasMore = entries.size() > maxEntries;
+        if (hasMore) {
+            long lastRevision = entries.get(maxEntries).getRevision();
+            List<ChangeLogEntry> complete = entries.stream()
+                    .filter(entry -> entry.getRevision() != lastRevision)
+                    .toList();
+            entries = complete.isEmpty()
+                    ? changeLogRepository.findByProjectIdAndRevisionOrderByIdAsc(projectId, lastRevision)
+                    : complete;
+        }
+        if (entries.isEmpty()) {
+            return new ProjectChangesDTO(projectId, since, false, false, null, List.of(), List.of(), List.of(), List.of());
+        }
+
+        // Fica só com a última operação de cada entidade dentro da página.
+        Map<String, ChangeLogEntry> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            latest.remove(entry.getEntityType() + ":" + entry.getEntityId());
+            latest.put(entry.getEntityType() + ":" + entry.getEntityId(), entry);
+        }
+
+        List<DeletedEntityDTO> deleted = new ArrayList<>();
+        for (ChangeLogEntry entry : latest.values()) {
+            if (entry.getOperation() == ChangeOperation.DELETE) {
+                deleted.add(new DeletedEntityDTO(entry.getEntityType(), entry.getEntityId()));
+            }
+        }
+
+        boolean projectChanged = !upsertedIds(latest, ChangeEntityType.PROJECT).isEmpty();
+        Set<Long> taskIds = upsertedIds(latest, ChangeEntityType.TASK);
+        Set<Long> itemIds = upsertedIds(latest, ChangeEntityType.CHECKLIST_ITEM);
+        Set<Long> commentIds = upsertedIds(latest, ChangeEntityType.COMMENT);
+
+        // Entidades que já não existem (excluídas numa revisão posterior) simplesmente não voltam
+        // aqui: o tombstone delas chega na próxima página.
+        List<TaskChangeDTO> tasks = taskIds.isEmpty() ? List.of() : taskRepository.findChangesByIds(projectId, taskIds);
+        List<ChecklistItemChangeDTO> items = itemIds.isEmpty() ? List.of() : checklistItemRepository.findChangesByIds(projectId, itemIds);
+        List<CommentChangeDTO> comments = commentIds.isEmpty() ? List.of() : commentRepository.findChangesByIds(projectId, commentIds);
+
+        long cursor = entries.get(entries.size() - 1).getRevision();
+        return new ProjectChangesDTO(projectId, cursor, hasMore, false, projectChanged ? header : null, tasks, items, comments, deleted);
+    }
+
+    // Uma vez por dia, apaga o change log mais velho que a retenção.
+    @Scheduled(cron = "${projetei.changes.prune-cron:0 15 0 * * *}")
+    @Transactional
+    public void pruneExpiredChanges() {
+        pruneChangesBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // Para cada projeto, guarda até qual revisão o change log foi apagado (o "piso" que o
+    // findChangesSince confere) e apaga as revisões inteiras até ela.
+    @Transactional
+    public void pruneChangesBefore(LocalDateTime cutoff) {
+        List<PrunableRevision> prunable = changeLogRepository.findPrunableRevisions(cutoff);
+        int entries = 0;
+        for (PrunableRevision revision : prunable) {
+            changeLogRepository.saveFloor(revision.getProjectId(), revision.getRevision());
+            entries += changeLogRepository.deleteUpToRevision(revision.getProjectId(), revision.getRevision());
+        }
+        log.info("Retenção do change log (antes de {}): {} entradas de {} projetos", cutoff, entries, prunable.size());
+    }
+
+    private static Set<Long> upsertedIds(Map<String, ChangeLogEntry> latest, ChangeEntityType type) {
+        return latest.values().stream()
+                .filter(entry -> entry.getEntityType() == type && entry.getOperation() == ChangeOperation.UPSERT)
+                .map(ChangeLogEntry::getEntityId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.cache.ProjectBoardCache;
+import br.com.projetei.api.model.ChangeLogEntry;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.ChangeEntityType;
+import br.com.projetei.api.model.enums.ChangeOperation;
+import br.com.projetei.api.repository.ChangeLogRepository;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.SecondLevelCacheLocks;
+import br.com.projetei.api.search.SearchIndexer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Ponto único chamado pelos serviços sempre que algo de um projeto muda
+// (o próprio projeto, suas tarefas, itens de checklist ou comentários).
+// Precisa rodar na mesma transação da alteração (Propagation.MANDATORY).
+//
+// Em cada transação, o primeiro registro de um projeto:
+//   1. incrementa a revisão do projeto (UPDATE atômico, que trava a linha do projeto até o commit);
+//   2. trava a entrada do projeto no cache de segundo nível até o fim da transação;
+//   3. tira o quadro do cache em memória.
+// Cada alteração também é repassada ao índice de busca (aplicada depois do commit).
+// Todas as entradas do change log daquela transação recebem essa mesma revisão. Como a linha do
+// projeto fica travada até o commit, as revisões de um projeto ficam na ordem dos commits, e
+// por isso servem de cursor para o delta sync.
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProjectChangeTracker {
+
+    private static final Object REVISIONS_KEY = new Object();
+
+    private final ProjectRepository projectRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ProjectBoardCache boardCache;
+    private final SecondLevelCacheLocks secondLevelCacheLocks;
+    private final SearchIndexer searchIndexer;
+
+    public ProjectChangeTracker(ProjectRepository projectRepository, ChangeLogRepository changeLogRepository, ProjectBoardCache boardCache,
+                                SecondLevelCacheLocks secondLevelCacheLocks, SearchIndexer searchIndexer) {
+        this.projectRepository = projectRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.boardCache = boardCache;
+        this.secondLevelCacheLocks = secondLevelCacheLocks;
+        this.searchIndexer = searchIndexer;
+    }
+
+    public void projectChanged(Project project) {
+        record(project, ChangeEntityType.PROJECT, project.getId(), ChangeOperation.UPSERT);
+    }
+
+    // O projeto (com tudo dentro) foi excluído: o histórico dele não tem mais utilidade.
+    public void projectDeleted(Project project) {
+        changeLogRepository.deleteByProjectId(project.getId());
+        changeLogRepository.deleteFloor(project.getId());
+        boardCache.evict(project);
+        searchIndexer.projectDeleted(project);
+    }
+
+    // Bloco de tarefas importadas, com seus itens e comentários (já persistidos, com IDs): tudo numa
+    // revisão. O índice de busca fica de fora; a importação o preenche de uma vez no fim
+    // (SearchIndexer.projectImported).
+    public void tasksImported(Project project, List<Task> tasks) {
+        long revision = revisionOf(project);
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        for (Task task : tasks) {
+            entries.add(new ChangeLogEntry(project.getId(), revision, ChangeEntityType.TASK, task.getId(), ChangeOperation.UPSERT));
+            for (ChecklistItem item : task.getChecklist()) {
+                entries.add(new ChangeLogEntry(project.getId(), revision, ChangeEntityType.CHECKLIST_ITEM, item.getId(), ChangeOperation.UPSERT));
+            }
+            for (Comment comment : task.getComments()) {
+                entries.add(new ChangeLogEntry(project.getId(), revision, ChangeEntityType.COMMENT, comment.getId(), ChangeOperation.UPSERT));
+            }
+        }
+        changeLogRepository.saveAll(entries);
+    }
+
+    public void taskChanged(Task task) {
+        record(task.getProject(), ChangeEntityType.TASK, task.getId(), ChangeOperation.UPSERT);
+        searchIndexer.taskChanged(task);
+    }
+
+    public void taskDeleted(Task task) {
+        record(task.getProject(), ChangeEntityType.TASK, task.getId(), ChangeOperation.DELETE);
+        searchIndexer.taskDeleted(task);
+    }
+
+    public void checklistItemChanged(ChecklistItem item) {
+        record(item.getTask().getProject(), ChangeEntityType.CHECKLIST_ITEM, item.getId(), ChangeOperation.UPSERT);
+        searchIndexer.checklistItemChanged(item);
+    }
+
+    public void checklistItemDeleted(ChecklistItem item) {
+        record(item.getTask().getProject(), ChangeEntityType.CHECKLIST_ITEM, item.getId(), ChangeOperation.DELETE);
+        searchIndexer.checklistItemDeleted(item);
+    }
+
+    public void commentChanged(Comment comment) {
+        record(comment.getTask().getProject(), ChangeEntityType.COMMENT, comment.getId(), ChangeOperation.UPSERT);
+        searchIndexer.commentChanged(comment);
+    }
+
+    public void commentDeleted(Comment comment) {
+        record(comment.getTask().getProject(), ChangeEntityType.COMMENT, comment.getId(), ChangeOperation.DELETE);
+        searchIndexer.commentDeleted(comment);
+    }
+
+    private void record(Project project, ChangeEntityType type, Long entityId, ChangeOperation operation) {
+        long revision = revisionOf(project);
+        changeLogRepository.save(new ChangeLogEntry(project.getId(), revision, type, entityId, operation));
+    }
+
+    // Revisão que o projeto terá quando a transação atual fizer commit.
+    public long revisionOf(Project project) {
+        Map<Long, Long> revisions = transactionRevisions();
+        Long revision = revisions.get(project.getId());
+        if (revision == null) {
+            projectRepository.incrementRevision(project.getId());
+            secondLevelCacheLocks.lockUntilCompletion(Project.class, project.getId());
+            revision = projectRepository.findRevisionById(project.getId()).orElseThrow();
+            revisions.put(project.getId(), revision);
+            boardCache.evict(project);
+        }
+        return revision;
+    }
+
+    // Revisões já geradas na transação atual (uma por projeto), liberadas ao fim da transação.
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> transactionRevisions() {
+        Map<Long, Long> revisions = (Map<Long, Long>) TransactionSynchronizationManager.getResource(REVISIONS_KEY);
+        if (revisions == null) {
+            Map<Long, Long> newRevisions = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(REVISIONS_KEY, newRevisions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(REVISIONS_KEY);
+                }
+            });
+            revisions = newRevisions;
+        }
+        return revisions;
+    }
+}
@@ -1,14 +1,28 @@
 package br.com.projetei.api.service;
 
+import br.com.projetei.api.cache.ProjectBoardCache;
+import br.com.projetei.api.dto.ProjectBoardDTO;
+import br.com.projetei.api.dto.ProjectDetailsDTO;
+import br.com.projetei.api.dto.ProjectHeaderDTO;
 import br.com.projetei.api.dto.UpdateProjectDTO;
 import org.springframework.transaction.annotation.Transactional;
 import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
 import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import br.com.projetei.api.search.SearchIndexer;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 // @Service: Anotação que marca esta classe como um componente de serviço.
 // O Spring irá gerenciá-la e permitirá que seja injetada em outras classes (como no nosso Controller).
@@ -16,25 +30,68 @@ import java.util.UUID;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ProjectBoardCache boardCache;
+    private final ProjectChangeTracker changeTracker;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CommentService commentService;
+    private final SearchIndexer searchIndexer;
+    private final ProjectStatsTracker statsTracker;
 
     // Injetamos o Repository no Service, pois o Service precisa dele para falar com o banco.
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, TaskRepository taskRepository, EntityManager entityManager,
+                          ProjectBoardCache boardCache, ProjectChangeTracker changeTracker,
+                          PlatformTransactionManager transactionManager, CommentService commentService,
+                          SearchIndexer searchIndexer, ProjectStatsTracker statsTracker) {
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.boardCache = boardCache;
+        this.changeTracker = changeTracker;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.commentService = commentService;
+        this.searchIndexer = searchIndexer;
+        this.statsTracker = statsTracker;
     }
 
+    @Transactional
     public Project createProject(Project project) {
         // LÓGICA DE NEGÓCIO: Gerar o código único antes de salvar.
         String uniqueCode = UUID.randomUUID().toString().substring(0, 8);
         project.setCode(uniqueCode);
 
         // Delega ao repositório a tarefa de salvar o projeto no banco de dados.
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        statsTracker.projectCreated(savedProject);
+        searchIndexer.projectCreated(savedProject);
+        return savedProject;
+    }
+
+    // Lista os projetos em páginas (cursor = último ID recebido). Cada página carrega o grafo
+    // completo de todos os seus projetos com um número fixo de consultas.
+    @Transactional(readOnly = true)
+    public List<Project> findProjectsPage(Long afterId, int limit) {
+        List<Long> ids = projectRepository.findIdsAfter(afterId == null ? 0L : afterId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Project> projects = projectRepository.findBoardsByIds(ids);
+        loadTaskCollections(ids, projects.stream().flatMap(project -> project.getTasks().stream()).toList());
+        return projects;
     }
 
-    public List<Project> findAllProjects() {
-        // Simplesmente chama o método findAll() que o JpaRepository nos dá de graça.
-        // Ele busca todas as entradas da tabela 'projects' e as retorna como uma lista.
-        return projectRepository.findAll();
+    // Percorre todos os projetos via cursor do banco. Cada projeto é desanexado depois de
+    // processado, então o contexto de persistência (e a memória) não cresce com a tabela.
+    @Transactional(readOnly = true)
+    public void forEachProject(Consumer<Project> action) {
+        try (Stream<Project> projects = projectRepository.streamAllOrderById()) {
+            projects.forEach(project -> {
+                action.accept(project);
+                entityManager.detach(project);
+            });
+        }
     }
 
     public Project findProjectById(Long projectId) {
@@ -48,11 +105,74 @@ public class ProjectService {
         return projectRepository.findByCode(code)
                 .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o Código: " + code));
     }
-    public void deleteProject(Long projectId) {
-        if (!projectRepository.existsById(projectId)) {
-            throw new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId);
+
+    // --- Carregamento do quadro (Kanban) ---
+    // Busca o projeto com todo o grafo (tarefas, checklists e o resumo dos comentários) em 3 consultas fixas,
+    // independente da quantidade de tarefas. Assim o Jackson serializa tudo sem disparar lazy loads.
+    // O resultado passa pelo ProjectBoardCache: a transação (e a conexão) só é aberta num cache miss.
+    // O grafo vira um DTO ainda na transação e sai do contexto de persistência (que, com open-in-view,
+    // é o da requisição): o cache e as requisições que esperam pela carga nunca veem as entidades.
+
+    public ProjectDetailsDTO findProjectBoardByCode(String code) {
+        return boardCache.getByCode(code, key -> readOnlyTransaction.execute(status -> {
+            Project project = projectRepository.findBoardByCode(key)
+                    .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o Código: " + key));
+            return toDetails(project);
+        }));
+    }
+
+    public ProjectDetailsDTO findProjectBoardById(Long projectId) {
+        return boardCache.getById(projectId, key -> readOnlyTransaction.execute(status -> {
+            Project project = projectRepository.findBoardById(key)
+                    .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + key));
+            return toDetails(project);
+        }));
+    }
+
+    private ProjectDetailsDTO toDetails(Project project) {
+        loadTaskCollections(project);
+        ProjectDetailsDTO details = ProjectDetailsDTO.of(project);
+        entityManager.detach(project);
+        return details;
+    }
+
+    // Versão leve do quadro: apenas os campos dos cartões + contagem do checklist (2 consultas).
+    public ProjectBoardDTO findProjectBoardSummary(Long projectId) {
+        return boardCache.getSummary(projectId, key -> readOnlyTransaction.execute(status -> {
+            ProjectHeaderDTO header = projectRepository.findHeaderById(key)
+                    .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + key));
+            return ProjectBoardDTO.of(header, taskRepository.findCardsByProjectId(key));
+        }));
+    }
+
+    // Revisão atual do projeto, sem carregar o grafo (usada no If-None-Match).
+    public Optional<Long> findProjectRevisionById(Long projectId) {
+        return projectRepository.findRevisionById(projectId);
+    }
+
+    public Optional<Long> findProjectRevisionByCode(String code) {
+        return projectRepository.findRevisionByCode(code);
+    }
+
+    private void loadTaskCollections(Project project) {
+        if (project.getTasks() == null || project.getTasks().isEmpty()) {
+            return;
         }
-        projectRepository.deleteById(projectId);
+        loadTaskCollections(List.of(project.getId()), project.getTasks());
+    }
+
+    private void loadTaskCollections(List<Long> projectIds, List<Task> tasks) {
+        taskRepository.fetchChecklistsByProjectIds(projectIds);
+        commentService.loadLatestComments(projectIds, tasks);
+    }
+
+    @Transactional
+    public void deleteProject(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
+        projectRepository.delete(project);
+        changeTracker.projectDeleted(project);
+        statsTracker.projectDeleted(projectId);
     }
 
     @Transactional
@@ -71,6 +191,8 @@ public class ProjectService {
             project.setDueDate(dto.getDueDate());
         }
 
+        changeTracker.projectChanged(project);
+
         // A anotação @Transactional garante que o JPA salvará as alterações.
         return project;
     }
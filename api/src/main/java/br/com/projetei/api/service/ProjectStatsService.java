@@ -0,0 +1,96 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.DailyStatsDTO;
+import br.com.projetei.api.dto.ProjectStatsDTO;
+import br.com.projetei.api.dto.ProjectSummaryDTO;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectStatsRepository;
+import br.com.projetei.api.repository.ProjectStatsRepository.DailyStats;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Indicadores dos projetos, lidos dos agregados mantidos pelo ProjectStatsTracker (nunca das tarefas),
+// e a fotografia diária que alimenta a série do fluxo cumulativo e do burndown.
+@Service
+public class ProjectStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    private final ProjectStatsRepository statsRepository;
+
+    public ProjectStatsService(ProjectStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    // Uma consulta: a linha de hoje (valores atuais) e as fotografias dos "days" dias anteriores.
+    @Transactional(readOnly = true)
+    public ProjectStatsDTO findStats(Long projectId, int days) {
+        LocalDate today = LocalDate.now();
+        List<DailyStats> series = statsRepository.findSeries(projectId, today.minusDays(days), today);
+        if (series.isEmpty() || !series.get(series.size() - 1).getSnapshotDate().equals(today)) {
+            throw new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId);
+        }
+        DailyStats current = series.get(series.size() - 1);
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, current.getTasksTodo());
+        byStatus.put(TaskStatus.DOING, current.getTasksDoing());
+        byStatus.put(TaskStatus.DONE, current.getTasksDone());
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        byPriority.put(TaskPriority.LOW, current.getPriorityLow());
+        byPriority.put(TaskPriority.MEDIUM, current.getPriorityMedium());
+        byPriority.put(TaskPriority.HIGH, current.getPriorityHigh());
+        long totalTasks = current.getTasksTodo() + current.getTasksDoing() + current.getTasksDone();
+        long withPriority = current.getPriorityLow() + current.getPriorityMedium() + current.getPriorityHigh();
+        double completion = current.getChecklistTotal() == 0 ? 0
+                : Math.round(current.getChecklistChecked() * 1000.0 / current.getChecklistTotal()) / 10.0;
+
+        List<DailyStatsDTO> history = series.stream()
+                .map(day -> new DailyStatsDTO(day.getSnapshotDate(), day.getTasksTodo(), day.getTasksDoing(), day.getTasksDone(),
+                        day.getOverdue(), day.getChecklistTotal(), day.getChecklistChecked()))
+                .toList();
+        return new ProjectStatsDTO(projectId, today, totalTasks, byStatus, byPriority, totalTasks - withPriority,
+                current.getOverdue(), current.getChecklistTotal(), current.getChecklistChecked(), completion, history);
+    }
+
+    // Resumos de vários projetos (pelos IDs e/ou códigos) numa consulta, em ordem de ID. Os que não
+    // existem são ignorados.
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryDTO> findSummaries(Collection<Long> ids, Collection<String> codes) {
+        if (ids.isEmpty() && codes.isEmpty()) {
+            return List.of();
+        }
+        return statsRepository.findSummaries(ids, codes).stream()
+                .map(p -> new ProjectSummaryDTO(p.getId(), p.getName(), p.getCode(), p.getDescription(), p.getDueDate(),
+                        p.getTasksTodo() + p.getTasksDoing() + p.getTasksDone(), p.getTasksTodo(), p.getTasksDoing(), p.getTasksDone()))
+                .toList();
+    }
+
+    // Logo depois da meia-noite, guarda como ficou cada projeto no fim do dia anterior.
+    @Scheduled(cron = "${projetei.stats.snapshot-cron:0 5 0 * * *}")
+    @Transactional
+    public void takeDailySnapshot() {
+        takeSnapshot(LocalDate.now().minusDays(1));
+    }
+
+    // Os valores atuais de todos os projetos, num INSERT ... SELECT, como a fotografia de "day"
+    // (refeita se já existir). Atrasadas = tarefas em aberto com prazo antes de "day".
+    @Transactional
+    public void takeSnapshot(LocalDate day) {
+        statsRepository.deleteSnapshot(day);
+        int projects = statsRepository.insertSnapshot(day);
+        statsRepository.deleteEmptyOpenDueDates();
+        log.info("Fotografia dos indicadores de {}: {} projetos", day, projects);
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.repository.ProjectStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Mantém os agregados de GET /api/projects/{id}/stats (tabelas project_stats e project_open_due_dates)
+// na mesma transação das alterações nas tarefas (Propagation.MANDATORY): uma transação desfeita
+// não deixa contagem errada para trás.
+//
+// Os serviços avisam cada tarefa criada, alterada ou excluída; as diferenças são somadas em memória
+// e só vão para o banco no fim da transação (beforeCommit): um UPDATE ... = x + delta por projeto,
+// mais um por prazo afetado, qualquer que seja o número de tarefas da transação (ex.: um lote).
+// Quem altera tarefas já incrementou a revisão do projeto (ProjectChangeTracker), que trava a linha
+// do projeto até o commit, então as transações de um mesmo projeto não disputam estas linhas.
+//
+// Projeto sem linha em project_stats (gravado por fora dos serviços): em vez de somar diferenças a
+// uma linha que não existe, os agregados dele são recalculados a partir das tarefas, já com as
+// alterações da transação.
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProjectStatsTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectStatsTracker.class);
+
+    private static final Object DELTAS_KEY = new Object();
+
+    private final ProjectStatsRepository statsRepository;
+    private final EntityManager entityManager;
+
+    public ProjectStatsTracker(ProjectStatsRepository statsRepository, EntityManager entityManager) {
+        this.statsRepository = statsRepository;
+        this.entityManager = entityManager;
+    }
+
+    // Projeto novo (com as tarefas que vieram junto no POST, se houver).
+    public void projectCreated(Project project) {
+        statsRepository.insertEmpty(project.getId());
+        if (project.getTasks() != null) {
+            Delta delta = deltaOf(project.getId());
+            project.getTasks().forEach(task -> delta.add(TaskStatsSnapshot.of(task), 1));
+        }
+    }
+
+    public void projectDeleted(Long projectId) {
+        transactionDeltas().remove(projectId);
+        statsRepository.deleteStats(projectId);
+        statsRepository.deleteOpenDueDates(projectId);
+        statsRepository.deleteDailyStats(projectId);
+    }
+
+    public void taskAdded(Task task) {
+        deltaOf(task).add(TaskStatsSnapshot.of(task), 1);
+    }
+
+    public void taskRemoved(Task task) {
+        deltaOf(task).add(TaskStatsSnapshot.of(task), -1);
+    }
+
+    // "before" é o estado da tarefa antes da alteração (TaskStatsSnapshot.of antes de mexer nela).
+    void taskChanged(Task task, TaskStatsSnapshot before) {
+        TaskStatsSnapshot after = TaskStatsSnapshot.of(task);
+        if (!after.equals(before)) {
+            Delta delta = deltaOf(task);
+            delta.add(before, -1);
+            delta.add(after, 1);
+        }
+    }
+
+    // Itens de checklist criados, marcados ou excluídos: os contadores da tarefa mudam direto no banco
+    // (TaskService.applyChecklistDelta), então a variação vem pronta.
+    void checklistChanged(Task task, int totalDelta, int checkedDelta) {
+        Delta delta = deltaOf(task);
+        delta.checklistTotal += totalDelta;
+        delta.checklistChecked += checkedDelta;
+    }
+
+    private Delta deltaOf(Task task) {
+        return deltaOf(task.getProject().getId());
+    }
+
+    private Delta deltaOf(Long projectId) {
+        return transactionDeltas().computeIfAbsent(projectId, id -> new Delta());
+    }
+
+    // Diferenças da transação atual por projeto, gravadas no beforeCommit e liberadas ao fim da transação.
+    @SuppressWarnings("unchecked")
+    private Map<Long, Delta> transactionDeltas() {
+        Map<Long, Delta> deltas = (Map<Long, Delta>) TransactionSynchronizationManager.getResource(DELTAS_KEY);
+        if (deltas == null) {
+            Map<Long, Delta> newDeltas = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(DELTAS_KEY, newDeltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    newDeltas.forEach(ProjectStatsTracker.this::write);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DELTAS_KEY);
+                }
+            });
+            deltas = newDeltas;
+        }
+        return deltas;
+    }
+
+    // O UPDATE dos contadores sai mesmo quando só os prazos mudaram: é ele que mostra se a linha existe.
+    private void write(Long projectId, Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        int updated = statsRepository.add(projectId, delta.todo, delta.doing, delta.done, delta.low, delta.medium,
+                delta.high, delta.checklistTotal, delta.checklistChecked);
+        if (updated == 0) {
+            rebuild(projectId);
+            return;
+        }
+        // Em ordem de data, para as transações travarem as linhas sempre na mesma ordem.
+        new TreeMap<>(delta.openTasksByDueDate).forEach((dueDate, openTasks) -> {
+            if (openTasks != 0) {
+                statsRepository.addOpenTasks(projectId, dueDate, openTasks);
+            }
+        });
+    }
+
+    // As tarefas da transação vão para o banco antes (o SQL nativo no espaço "project_stats" não força o flush).
+    private void rebuild(Long projectId) {
+        log.warn("Projeto {} sem agregados em project_stats; recalculando a partir das tarefas", projectId);
+        entityManager.flush();
+        List<Long> ids = List.of(projectId);
+        statsRepository.deleteOpenDueDates(projectId);
+        statsRepository.insertFromTasks(ids);
+        statsRepository.insertOpenDueDatesFromTasks(ids);
+    }
+
+    private static final class Delta {
+        long todo, doing, done;
+        long low, medium, high;
+        long checklistTotal, checklistChecked;
+        final Map<LocalDate, Long> openTasksByDueDate = new HashMap<>();
+
+        void add(TaskStatsSnapshot task, int sign) {
+            if (task.status() != null) {
+                switch (task.status()) {
+                    case TODO -> todo += sign;
+                    case DOING -> doing += sign;
+                    case DONE -> done += sign;
+                }
+            }
+            if (task.priority() != null) {
+                switch (task.priority()) {
+                    case LOW -> low += sign;
+                    case MEDIUM -> medium += sign;
+                    case HIGH -> high += sign;
+                }
+            }
+            checklistTotal += (long) sign * task.checklistTotal();
+            checklistChecked += (long) sign * task.checklistChecked();
+            if (task.open()) {
+                openTasksByDueDate.merge(task.dueDate(), (long) sign, Long::sum);
+            }
+        }
+
+        boolean isEmpty() {
+            return todo == 0 && doing == 0 && done == 0 && low == 0 && medium == 0 && high == 0
+                    && checklistTotal == 0 && checklistChecked == 0
+                    && openTasksByDueDate.values().stream().allMatch(openTasks -> openTasks == 0);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.ExportLineDTO;
+import br.com.projetei.api.dto.ExportedChecklistItemDTO;
+import br.com.projetei.api.dto.ExportedCommentDTO;
+import br.com.projetei.api.dto.ExportedProjectDTO;
+import br.com.projetei.api.dto.ExportedTaskDTO;
+import br.com.projetei.api.dto.ProjectHeaderDTO;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import br.com.projetei.api.repository.CommentRepository;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import br.com.projetei.api.search.SearchIndexer;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Exportação e importação de um projeto inteiro em NDJSON (formato em ExportLineDTO), com uso de
+// memória constante nos dois sentidos:
+//
+// - Exportação: três cursores do banco (tarefas, itens e comentários, todos ordenados pela tarefa)
+//   percorridos juntos. São projeções, então nada se acumula no contexto de persistência.
+// - Importação: lida linha a linha. As tarefas, com seus itens e comentários, são gravadas em blocos
+//   de projetei.transfer.import-chunk-size, cada bloco na sua transação (INSERTs em lote do JDBC).
+//   Numa transação única o Hibernate guardaria até o commit uma ação por entidade inserida (para o
+//   cache de segundo nível). Cada bloco passa pelo ProjectChangeTracker (nova revisão, change log e
+//   quadro fora do cache), então quem leu o quadro no meio da importação vê que ele mudou. Se algo
+//   falhar no meio, o projeto parcial é excluído.
+@Service
+public class ProjectTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectTransferService.class);
+
+    private final ProjectService projectService;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final CommentRepository commentRepository;
+    private final SearchIndexer searchIndexer;
+    private final TaskMetrics taskMetrics;
+    private final ProjectChangeTracker changeTracker;
+    private final ProjectStatsTracker statsTracker;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate writeTransaction;
+    private final int importChunkSize;
+
+    public ProjectTransferService(ProjectService projectService, ProjectRepository projectRepository,
+                                  TaskRepository taskRepository, ChecklistItemRepository checklistItemRepository,
+                                  CommentRepository commentRepository, SearchIndexer searchIndexer, TaskMetrics taskMetrics,
+                                  ProjectChangeTracker changeTracker, ProjectStatsTracker statsTracker,
+                                  EntityManager entityManager, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${projetei.transfer.import-chunk-size:500}") int importChunkSize) {
+        this.projectService = projectService;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.checklistItemRepository = checklistItemRepository;
+        this.commentRepository = commentRepository;
+        this.searchIndexer = searchIndexer;
+        this.taskMetrics = taskMetrics;
+        this.changeTracker = changeTracker;
+        this.statsTracker = statsTracker;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.importChunkSize = importChunkSize;
+    }
+
+    // --- Exportação ---
+
+    // Cada tarefa é escrita seguida dos seus itens e comentários: como os três cursores estão
+    // ordenados pelo ID da tarefa, basta avançar os dois últimos enquanto forem da tarefa atual.
+    @Transactional(readOnly = true)
+    public void exportProject(Long projectId, OutputStream out) throws IOException {
+        ExportedProjectDTO project = projectRepository.findExportById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
+        ObjectWriter writer = objectMapper.writerFor(ExportLineDTO.class);
+        writeLine(writer, out, project);
+
+        try (Stream<ExportedTaskDTO> tasks = taskRepository.streamExportByProjectId(projectId);
+             Stream<ExportedChecklistItemDTO> items = checklistItemRepository.streamExportByProjectId(projectId);
+             Stream<ExportedCommentDTO> comments = commentRepository.streamExportByProjectId(projectId)) {
+            Iterator<ExportedChecklistItemDTO> itemIterator = items.iterator();
+            Iterator<ExportedCommentDTO> commentIterator = comments.iterator();
+            ExportedChecklistItemDTO item = next(itemIterator);
+            ExportedCommentDTO comment = next(commentIterator);
+
+            for (ExportedTaskDTO task : (Iterable<ExportedTaskDTO>) tasks::iterator) {
+                writeLine(writer, out, task);
+                while (item != null && item.taskId().equals(task.id())) {
+                    writeLine(writer, out, item);
+                    item = next(itemIterator);
+                }
+                while (comment != null && comment.taskId().equals(task.id())) {
+                    writeLine(writer, out, comment);
+                    comment = next(commentIterator);
+                }
+            }
+        }
+    }
+
+    private static void writeLine(ObjectWriter writer, OutputStream out, ExportLineDTO line) throws IOException {
+        out.write(writer.writeValueAsBytes(line));
+        out.write('\n');
+    }
+
+    private static <T> T next(Iterator<T> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    // --- Importação ---
+
+    // A primeira linha cria o projeto (com um código novo, como em ProjectService.createProject). Entradas
+    // inválidas lançam IllegalArgumentException (ou a exceção do Jackson, se a linha nem for JSON).
+    public ProjectHeaderDTO importProject(InputStream in) throws IOException {
+        try (MappingIterator<ExportLineDTO> lines = objectMapper.readerFor(ExportLineDTO.class).readValues(in)) {
+            if (!lines.hasNextValue() || !(lines.nextValue() instanceof ExportedProjectDTO exported)) {
+                throw new IllegalArgumentException("A primeira linha deve ser a do projeto (type = PROJECT)");
+            }
+            Project project = projectService.createProject(newProject(exported));
+            long tasks;
+            try {
+                tasks = importTasks(project, lines);
+            } catch (IOException | RuntimeException e) {
+                deleteImportedProject(project);
+                throw e;
+            }
+            searchIndexer.projectImported(project.getId());
+            log.info("Projeto {} importado com {} tarefas", project.getId(), tasks);
+            // Com a revisão do último bloco.
+            return projectRepository.findHeaderById(project.getId()).orElseThrow();
+        }
+    }
+
+    // Só a tarefa atual (e o bloco ainda não gravado) fica na memória: os itens e comentários
+    // precisam vir logo depois da sua tarefa, como na exportação.
+    private long importTasks(Project project, MappingIterator<ExportLineDTO> lines) throws IOException {
+        List<Task> chunk = new ArrayList<>(importChunkSize);
+        Task current = null;
+        Long currentExportedId = null;
+        long imported = 0;
+
+        while (lines.hasNextValue()) {
+            ExportLineDTO line = lines.nextValue();
+            if (line instanceof ExportedTaskDTO exportedTask) {
+                if (chunk.size() == importChunkSize) {
+                    persistChunk(project, chunk);
+                    imported += chunk.size();
+                    chunk.clear();
+                }
+                current = newTask(exportedTask);
+                currentExportedId = exportedTask.id();
+                chunk.add(current);
+            } else if (line instanceof ExportedChecklistItemDTO exportedItem) {
+                requireCurrentTask(current, currentExportedId, exportedItem.taskId());
+                current.getChecklist().add(newChecklistItem(current, exportedItem));
+            } else if (line instanceof ExportedCommentDTO exportedComment) {
+                requireCurrentTask(current, currentExportedId, exportedComment.taskId());
+                current.getComments().add(newComment(current, exportedComment));
+            } else {
+                throw new IllegalArgumentException("O arquivo deve ter uma única linha de projeto");
+            }
+        }
+        persistChunk(project, chunk);
+        return imported + chunk.size();
+    }
+
+    private void persistChunk(Project project, List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        writeTransaction.executeWithoutResult(status -> {
+            // Não coloca as entidades importadas no cache de segundo nível: um projeto inteiro
+            // expulsaria das regiões as entradas que estão em uso.
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            Project reference = entityManager.getReference(Project.class, project.getId());
+            for (Task task : tasks) {
+                task.setProject(reference);
+                entityManager.persist(task); // cascade ALL: itens e comentários vão junto (e os contadores já nascem certos)
+                statsTracker.taskAdded(task);
+            }
+            changeTracker.tasksImported(project, tasks);
+            // Com open-in-view o contexto de persistência dura a requisição inteira, não só a transação.
+            entityManager.flush();
+            entityManager.clear();
+            taskMetrics.tasksCreated(tasks.size());
+        });
+    }
+
+    // Desfaz uma importação interrompida: os blocos já confirmados e o próprio projeto.
+    // Como na exclusão comum, o change log, o quadro em cache e o índice de busca vão junto.
+    private void deleteImportedProject(Project project) {
+        Long projectId = project.getId();
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                commentRepository.deleteByProjectId(projectId);
+                checklistItemRepository.deleteByProjectId(projectId);
+                taskRepository.deleteByProjectId(projectId);
+                projectRepository.deleteById(projectId);
+                statsTracker.projectDeleted(projectId);
+                changeTracker.projectDeleted(project);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Falha ao excluir o projeto {} de uma importação interrompida", projectId, e);
+        }
+    }
+
+    private static void requireCurrentTask(Task current, Long currentExportedId, Long taskId) {
+        if (current == null || !Objects.equals(currentExportedId, taskId)) {
+            throw new IllegalArgumentException("Linha da tarefa " + taskId + " fora do bloco dela: itens e comentários devem vir logo depois da sua tarefa");
+        }
+    }
+
+    private static Project newProject(ExportedProjectDTO exported) {
+        if (exported.name() == null || exported.name().isBlank()) {
+            throw new IllegalArgumentException("Campo 'name' do projeto é obrigatório");
+        }
+        Project project = new Project();
+        project.setName(exported.name());
+        project.setDescription(exported.description());
+        project.setDueDate(exported.dueDate());
+        return project;
+    }
+
+    private static Task newTask(ExportedTaskDTO exported) {
+        if (exported.title() == null || exported.title().isBlank()) {
+            throw new IllegalArgumentException("Campo 'title' é obrigatório (tarefa " + exported.id() + ")");
+        }
+        Task task = new Task();
+        task.setTitle(exported.title());
+        task.setDescription(exported.description());
+        task.setDueDate(exported.dueDate());
+        task.setStatus(exported.status() != null ? exported.status() : TaskStatus.TODO);
+        task.setPriority(exported.priority());
+        task.setChecklist(new ArrayList<>());
+        task.setComments(new ArrayList<>());
+        return task;
+    }
+
+    private static ChecklistItem newChecklistItem(Task task, ExportedChecklistItemDTO exported) {
+        if (exported.text() == null || exported.text().isBlank()) {
+            throw new IllegalArgumentException("Itens de checklist não podem ficar vazios (tarefa " + exported.taskId() + ")");
+        }
+        ChecklistItem item = new ChecklistItem();
+        item.setText(exported.text());
+        item.setChecked(exported.checked());
+        item.setTask(task);
+        return item;
+    }
+
+    private static Comment newComment(Task task, ExportedCommentDTO exported) {
+        if (exported.text() == null || exported.text().isBlank() || exported.authorName() == null || exported.authorName().isBlank()) {
+            throw new IllegalArgumentException("Comentários precisam de 'text' e 'authorName' (tarefa " + exported.taskId() + ")");
+        }
+        Comment comment = new Comment();
+        comment.setText(exported.text());
+        comment.setAuthorName(exported.authorName());
+        comment.setCreatedAt(exported.createdAt() != null ? exported.createdAt() : LocalDateTime.now());
+        comment.setTask(task);
+        return comment;
+    }
+}
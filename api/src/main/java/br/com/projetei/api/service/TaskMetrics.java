@@ -0,0 +1,61 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.model.enums.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Contadores de negócio das tarefas: criações (projetei.tasks.creations; um nome terminado em
+// "created" perde o sufixo no Prometheus) e mudanças de status (de/para, e por onde vieram:
+// manual = PATCH /status, checklist = recalculada pelos itens, bulk = operações em lote).
+// Só contam depois do commit: uma transação desfeita ou repetida por ConcurrentUpdateRetry
+// não infla os números.
+@Component
+public class TaskMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter created;
+
+    public TaskMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.created = Counter.builder("projetei.tasks.creations")
+                .description("Tarefas criadas")
+                .register(meterRegistry);
+    }
+
+    void taskCreated() {
+        afterCommit(created::increment);
+    }
+
+    void tasksCreated(long count) {
+        afterCommit(() -> created.increment(count));
+    }
+
+    void statusChanged(TaskStatus from, TaskStatus to, String source) {
+        if (from == to) {
+            return;
+        }
+        Counter transitions = Counter.builder("projetei.tasks.status.transitions")
+                .description("Mudanças de status de tarefa")
+                .tag("from", String.valueOf(from))
+                .tag("to", String.valueOf(to))
+                .tag("source", source)
+                .register(meterRegistry);
+        afterCommit(transitions::increment);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.projetei.api.service;
 
+import br.com.projetei.api.dto.BoardEventDTO;
+import br.com.projetei.api.dto.TaskCursor;
+import br.com.projetei.api.dto.TaskFilter;
 import br.com.projetei.api.dto.UpdateTaskDTO;
 import br.com.projetei.api.dto.CreateChecklistItemDTO;
 import br.com.projetei.api.dto.UpdateChecklistItemDTO;
@@ -7,16 +10,23 @@ import br.com.projetei.api.model.ChecklistItem;
 import br.com.projetei.api.model.Project;
 import br.com.projetei.api.model.Task;
 import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskSortKey;
 import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.realtime.BoardEventHub;
 import br.com.projetei.api.repository.ChecklistItemRepository;
 import br.com.projetei.api.repository.ProjectRepository;
 import br.com.projetei.api.repository.TaskRepository;
+import br.com.projetei.api.repository.TaskSpecifications;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import br.com.projetei.api.dto.UpdateTaskStatusDTO;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class TaskService {
@@ -24,53 +34,140 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final ChecklistItemRepository checklistItemRepository;
-
-    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, ChecklistItemRepository checklistItemRepository) {
+    private final ProjectChangeTracker changeTracker;
+    private final BoardEventHub boardEvents;
+    private final ConcurrentUpdateRetry concurrentUpdateRetry;
+    private final EntityManager entityManager;
+    private final TaskMetrics taskMetrics;
+    private final CommentService commentService;
+    private final ProjectStatsTracker statsTracker;
+
+    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, ChecklistItemRepository checklistItemRepository,
+                       ProjectChangeTracker changeTracker, BoardEventHub boardEvents, ConcurrentUpdateRetry concurrentUpdateRetry,
+                       EntityManager entityManager, TaskMetrics taskMetrics, CommentService commentService,
+                       ProjectStatsTracker statsTracker) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.checklistItemRepository = checklistItemRepository;
+        this.changeTracker = changeTracker;
+        this.boardEvents = boardEvents;
+        this.concurrentUpdateRetry = concurrentUpdateRetry;
+        this.entityManager = entityManager;
+        this.taskMetrics = taskMetrics;
+        this.commentService = commentService;
+        this.statsTracker = statsTracker;
     }
 
+    @Transactional
     public Task createTask(Long projectId, Task task) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
         task.setProject(project);
         task.setStatus(TaskStatus.TODO);
         task.setPriority(TaskPriority.MEDIUM); // Definindo um valor padrão
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        changeTracker.taskChanged(savedTask);
+        statsTracker.taskAdded(savedTask);
+        taskMetrics.taskCreated();
+        return savedTask;
     }
 
+    // Tarefas com checklists e o resumo dos comentários em 3 consultas fixas (como o quadro em
+    // ProjectService), em vez de duas consultas por tarefa quando o Jackson abre cada lista.
+    @Transactional(readOnly = true)
     public List<Task> findAllByProjectId(Long projectId) {
-        return taskRepository.findByProjectId(projectId);
-    }
-
-    @Transactional
-    public ChecklistItem updateChecklistItem(Long checklistItemId, UpdateChecklistItemDTO dto) {
-        ChecklistItem item = checklistItemRepository.findById(checklistItemId)
-                .orElseThrow(() -> new EntityNotFoundException("Item de checklist não encontrado com o ID: " + checklistItemId));
-
-        if (dto.getText() != null) {
-            item.setText(dto.getText());
+        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        if (!tasks.isEmpty()) {
+            taskRepository.fetchChecklistsByProjectIds(List.of(projectId));
+            commentService.loadLatestComments(List.of(projectId), tasks);
         }
+        return tasks;
+    }
 
-        // --- A CORREÇÃO ESTÁ AQUI ---
-        if (dto.isChecked() != null) { // Altere de getIsChecked() para isChecked()
-            item.setChecked(dto.isChecked()); // Altere de getIsChecked() para isChecked()
+    // Listagem filtrada/ordenada (TaskSpecifications), com os checklists e o resumo dos comentários só
+    // das tarefas devolvidas. limit nulo = todas as tarefas que passam no filtro.
+    @Transactional(readOnly = true)
+    public List<Task> findTasks(Long projectId, TaskFilter filter, TaskSortKey sort, boolean descending, TaskCursor after, Integer limit) {
+        Specification<Task> specification = TaskSpecifications.matching(projectId, filter, LocalDate.now())
+                .and(TaskSpecifications.sortedAfter(sort, descending, after));
+        List<Task> tasks = limit == null
+                ? taskRepository.findAll(specification)
+                : taskRepository.findBy(specification, query -> query.limit(limit).all());
+        if (!tasks.isEmpty()) {
+            taskRepository.fetchChecklistsByIds(tasks.stream().map(Task::getId).toList());
+            commentService.loadLatestComments(tasks);
         }
+        return tasks;
+    }
 
-        recalculateTaskStatus(item.getTask());
+    // Escritas em tarefas e itens de checklist rodam em ConcurrentUpdateRetry: se outra requisição
+    // alterou as mesmas linhas no meio do caminho (@Version), a transação é repetida com dados relidos.
+    // Esgotadas as tentativas, a tarefa atual vai junto com o 409.
+    public ChecklistItem updateChecklistItem(Long checklistItemId, UpdateChecklistItemDTO dto) {
+        return concurrentUpdateRetry.inTransaction(() -> {
+            ChecklistItem item = checklistItemRepository.findById(checklistItemId)
+                    .orElseThrow(() -> new EntityNotFoundException("Item de checklist não encontrado com o ID: " + checklistItemId));
+
+            if (dto.getText() != null) {
+                item.setText(dto.getText());
+            }
+
+            // --- A CORREÇÃO ESTÁ AQUI ---
+            boolean statusChanged = false;
+            if (dto.isChecked() != null && dto.isChecked() != item.isChecked()) { // Altere de getIsChecked() para isChecked()
+                item.setChecked(dto.isChecked()); // Altere de getIsChecked() para isChecked()
+                statusChanged = applyChecklistDelta(item.getTask(), 0, item.isChecked() ? 1 : -1);
+            }
+
+            changeTracker.checklistItemChanged(item);
+            changeTracker.taskChanged(item.getTask());
+
+            // Avisa os quadros abertos (depois do commit): o item alterado e, se o checklist mudou o
+            // status da tarefa, o novo status.
+            Project project = item.getTask().getProject();
+            long revision = changeTracker.revisionOf(project);
+            boardEvents.publish(project, revision, BoardEventDTO.checklistItem(item));
+            if (statusChanged) {
+                boardEvents.publish(project, revision, BoardEventDTO.taskStatus(item.getTask()));
+            }
+
+            return item;
+        }, () -> currentTaskOfChecklistItem(checklistItemId));
+    }
 
-        return item;
+    // Ajusta os contadores do checklist direto no banco (UPDATE ... = x + delta), relê a tarefa
+    // e recalcula o status a partir deles. Custo constante, qualquer que seja o tamanho do checklist.
+    // Também usado pelas operações em lote (BulkTaskService), uma vez por tarefa afetada.
+    // Devolve true se o status da tarefa mudou.
+    boolean applyChecklistDelta(Task task, int totalDelta, int checkedDelta) {
+        if (totalDelta == 0 && checkedDelta == 0) {
+            return false;
+        }
+        // O flush antes garante que o UPDATE do item (com a conferência da versão) sai primeiro.
+        entityManager.flush();
+        taskRepository.adjustChecklistCounters(task.getId(), totalDelta, checkedDelta);
+        // O incremento trava a linha da tarefa, então o refresh lê o estado mais recente (contadores,
+        // status e versão), e não o de quando a tarefa foi carregada: sem isso, uma transação que
+        // esperou o lock compararia o status novo com um status velho e poderia deixar de gravá-lo.
+        // O refresh também trava a entrada da tarefa no cache de segundo nível até o fim da transação
+        // (o UPDATE nativo dos contadores não mexe no cache).
+        entityManager.refresh(task);
+        TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
+        recalculateTaskStatus(task);
+        taskMetrics.statusChanged(before.status(), task.getStatus(), "checklist");
+        // Os contadores relidos já incluem a variação: ela vai à parte, e o snapshot cobre o status.
+        statsTracker.checklistChanged(task, totalDelta, checkedDelta);
+        statsTracker.taskChanged(task, before);
+        return task.getStatus() != before.status();
     }
 
-    private void recalculateTaskStatus(Task task) {
-        List<ChecklistItem> checklist = task.getChecklist();
-        if (checklist == null || checklist.isEmpty()) {
+    static void recalculateTaskStatus(Task task) {
+        int totalItems = task.getChecklistTotal();
+        if (totalItems == 0) {
             return;
         }
 
-        long totalItems = checklist.size();
-        long checkedItems = checklist.stream().filter(ChecklistItem::isChecked).count();
+        int checkedItems = task.getChecklistChecked();
 
         TaskStatus newStatus;
         if (checkedItems == 0) {
@@ -88,89 +185,126 @@ public class TaskService {
     }
 
     public Task findTaskById(Long taskId) {
-        return taskRepository.findById(taskId)
+        Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
+        return commentService.withLatestComments(task);
     }
 
+    public Optional<Long> findProjectRevisionByTaskId(Long taskId) {
+        return taskRepository.findProjectRevisionByTaskId(taskId);
+    }
+
+    // Como as outras escritas: se a tarefa (ou um item dela) mudou no meio do caminho (@Version), a
+    // exclusão é repetida com dados relidos, e a tarefa atual vai junto com o 409.
     public void deleteTask(Long taskId) {
-        // É uma boa prática verificar se o recurso existe antes de tentar deletá-lo.
-        if (!taskRepository.existsById(taskId)) {
+        concurrentUpdateRetry.inTransaction(() -> {
+            // É uma boa prática verificar se o recurso existe antes de tentar deletá-lo.
             // Se não existir, lançamos a mesma exceção de "não encontrado".
-            throw new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId);
-        }
-        // O JpaRepository nos dá este método de graça para deletar pelo ID.
-        taskRepository.deleteById(taskId);
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
+            taskRepository.delete(task);
+            changeTracker.taskDeleted(task);
+            statsTracker.taskRemoved(task);
+        }, () -> currentTask(taskId));
     }
 
     // ... (dentro da classe TaskService)
 
-    @Transactional
     public void deleteChecklistItem(Long itemId) {
-        // 1. Busca o item para garantir que ele existe e para pegar a tarefa pai.
-        ChecklistItem item = checklistItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("Item de checklist não encontrado com o ID: " + itemId));
-        Task parentTask = item.getTask();
-
-        // 2. Deleta o item.
-        checklistItemRepository.delete(item);
-        checklistItemRepository.flush(); // Força a execução do DELETE no banco imediatamente.
-
-        // 3. Recarrega a tarefa pai do banco para garantir que estamos com a lista de checklists 100% atualizada.
-        Task updatedParentTask = taskRepository.findById(parentTask.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Tarefa pai não encontrada após exclusão do item. ID: " + parentTask.getId()));
-
-        // 4. Agora recalcula o status com os dados mais recentes.
-        recalculateTaskStatus(updatedParentTask);
+        concurrentUpdateRetry.inTransaction(() -> {
+            // 1. Busca o item para garantir que ele existe e para pegar a tarefa pai.
+            ChecklistItem item = checklistItemRepository.findById(itemId)
+                    .orElseThrow(() -> new EntityNotFoundException("Item de checklist não encontrado com o ID: " + itemId));
+            Task parentTask = item.getTask();
+
+            // 2. Deleta o item.
+            checklistItemRepository.delete(item);
+
+            // 3. Atualiza os contadores da tarefa pai e recalcula o status (sem recarregar o checklist).
+            applyChecklistDelta(parentTask, -1, item.isChecked() ? -1 : 0);
+            changeTracker.checklistItemDeleted(item);
+            changeTracker.taskChanged(parentTask);
+        }, () -> currentTaskOfChecklistItem(itemId));
     }
 
-    @Transactional
     public ChecklistItem addChecklistItemToTask(Long taskId, CreateChecklistItemDTO dto) {
-        // 1. Busca a tarefa pai para garantir que ela existe.
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
-
-        // 2. Cria a nova entidade ChecklistItem a partir do DTO.
-        ChecklistItem newItem = new ChecklistItem();
-        newItem.setText(dto.getText());
-        newItem.setChecked(false); // Regra de negócio: um novo item sempre começa como não marcado.
-        newItem.setTask(task); // Associa o novo item à sua tarefa pai.
-
-        // 3. Salva o novo item no banco de dados.
-        return checklistItemRepository.save(newItem);
+        return concurrentUpdateRetry.inTransaction(() -> {
+            // 1. Busca a tarefa pai para garantir que ela existe.
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
+
+            // 2. Cria a nova entidade ChecklistItem a partir do DTO.
+            ChecklistItem newItem = new ChecklistItem();
+            newItem.setText(dto.getText());
+            newItem.setChecked(false); // Regra de negócio: um novo item sempre começa como não marcado.
+            newItem.setTask(task); // Associa o novo item à sua tarefa pai.
+
+            // 3. Salva o novo item no banco de dados.
+            ChecklistItem savedItem = checklistItemRepository.save(newItem);
+
+            // 4. Um item novo (não marcado) entra nos contadores e pode tirar a tarefa de "DONE".
+            applyChecklistDelta(task, 1, 0);
+            changeTracker.checklistItemChanged(savedItem);
+            changeTracker.taskChanged(task);
+            return savedItem;
+        }, () -> currentTask(taskId));
     }
-    @Transactional
     public Task updateTask(Long taskId, UpdateTaskDTO dto) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
-
-        // Lógica de atualização parcial
-        if (dto.getDueDate() != null) {
-            task.setDueDate(dto.getDueDate());
-        }
-        if (dto.getPriority() != null) {
-            task.setPriority(dto.getPriority());
-        }
-
-        if (dto.getDescription() != null) {
-            task.setDescription(dto.getDescription());
-        }
-
-        if (dto.getTitle() != null) {
-            task.setTitle(dto.getTitle());
-        }
-
-        // A anotação @Transactional cuida de salvar as alterações.
-        return task;
+        return commentService.withLatestComments(concurrentUpdateRetry.inTransaction(() -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
+            TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
+
+            // Lógica de atualização parcial
+            if (dto.getDueDate() != null) {
+                task.setDueDate(dto.getDueDate());
+            }
+            if (dto.getPriority() != null) {
+                task.setPriority(dto.getPriority());
+            }
+
+            if (dto.getDescription() != null) {
+                task.setDescription(dto.getDescription());
+            }
+
+            if (dto.getTitle() != null) {
+                task.setTitle(dto.getTitle());
+            }
+
+            changeTracker.taskChanged(task);
+            statsTracker.taskChanged(task, before);
+
+            // A transação (ConcurrentUpdateRetry) cuida de salvar as alterações.
+            return task;
+        }, () -> currentTask(taskId)));
     }
 
-    @Transactional
     public Task updateTaskStatus(Long taskId, UpdateTaskStatusDTO dto) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
+        return commentService.withLatestComments(concurrentUpdateRetry.inTransaction(() -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com o ID: " + taskId));
+
+            TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
+            taskMetrics.statusChanged(task.getStatus(), dto.getStatus(), "manual");
+            task.setStatus(dto.getStatus());
+            changeTracker.taskChanged(task);
+            statsTracker.taskChanged(task, before);
+            // Reenviar o mesmo status não gera evento para os quadros abertos.
+            if (before.status() != task.getStatus()) {
+                boardEvents.publish(task.getProject(), changeTracker.revisionOf(task.getProject()), BoardEventDTO.taskStatus(task));
+            }
+
+            // A transação (ConcurrentUpdateRetry) garante que a mudança será salva.
+            return task;
+        }, () -> currentTask(taskId)));
+    }
 
-        task.setStatus(dto.getStatus());
+    // Estado atual devolvido no 409 (lido fora da transação que falhou; null se o recurso sumiu).
+    private Task currentTask(Long taskId) {
+        return taskRepository.findById(taskId).orElse(null);
+    }
 
-        // A anotação @Transactional garante que a mudança será salva.
-        return task;
+    private Task currentTaskOfChecklistItem(Long checklistItemId) {
+        return checklistItemRepository.findById(checklistItemId).map(ChecklistItem::getTask).orElse(null);
     }
 }
\ No newline at end of file
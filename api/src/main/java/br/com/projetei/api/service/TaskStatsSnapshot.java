@@ -0,0 +1,22 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+// O que uma tarefa soma nos agregados do projeto (ProjectStatsTracker), guardado antes de uma
+// alteração para que só a diferença vá para o banco.
+record TaskStatsSnapshot(TaskStatus status, TaskPriority priority, LocalDate dueDate, int checklistTotal, int checklistChecked) {
+
+    static TaskStatsSnapshot of(Task task) {
+        return new TaskStatsSnapshot(task.getStatus(), task.getPriority(), task.getDueDate(),
+                task.getChecklistTotal(), task.getChecklistChecked());
+    }
+
+    // Conta nas atrasadas dos dias depois do prazo enquanto não estiver concluída.
+    boolean open() {
+        return dueDate != null && status != TaskStatus.DONE;
+    }
+}
@@ -0,0 +1,44 @@
+-- Esquema que o Hibernate (ddl-auto=update) criava no MySQL até a adoção das migrações: IDs por
+-- auto_increment, sem versões, revisões nem contadores. Num banco que já tem essas tabelas, o Flyway
+-- só registra esta versão (baseline-on-migrate) e aplica as seguintes, que trazem o resto.
+
+create table projects (
+    id          bigint       not null auto_increment,
+    name        varchar(255) not null,
+    code        varchar(255) not null,
+    description text,
+    due_date    date,
+    primary key (id),
+    constraint uk_projects_code unique (code)
+) engine = InnoDB;
+
+create table tasks (
+    id          bigint       not null auto_increment,
+    project_id  bigint       not null,
+    title       varchar(255) not null,
+    description text,
+    due_date    date,
+    status      enum ('DOING', 'DONE', 'TODO') not null,
+    priority    enum ('HIGH', 'LOW', 'MEDIUM'),
+    primary key (id),
+    constraint fk_tasks_project foreign key (project_id) references projects (id)
+) engine = InnoDB;
+
+create table checklist_items (
+    id         bigint       not null auto_increment,
+    task_id    bigint       not null,
+    text       varchar(255) not null,
+    is_checked bit          not null,
+    primary key (id),
+    constraint fk_checklist_items_task foreign key (task_id) references tasks (id)
+) engine = InnoDB;
+
+create table comments (
+    id          bigint       not null auto_increment,
+    task_id     bigint       not null,
+    text        text         not null,
+    author_name varchar(255) not null,
+    created_at  datetime(6),
+    primary key (id),
+    constraint fk_comments_task foreign key (task_id) references tasks (id)
+) engine = InnoDB;
@@ -0,0 +1,48 @@
+-- O que as entidades ganharam depois do esquema original (V1), aplicado também aos bancos que já
+-- tinham dados: as linhas existentes começam na versão/revisão 0 e com os contadores zerados
+-- (a V4 preenche os contadores).
+
+-- Versão otimista das tarefas e dos itens, contadores do checklist e revisão do quadro.
+alter table projects add column revision bigint not null default 0;
+alter table tasks add column version bigint not null default 0;
+alter table tasks add column checklist_total integer not null default 0;
+alter table tasks add column checklist_checked integer not null default 0;
+alter table checklist_items add column version bigint not null default 0;
+
+-- Alterações por revisão do projeto, lidas por GET /api/projects/{id}/changes. Sem chave estrangeira:
+-- a exclusão do projeto apaga estas linhas explicitamente.
+create table change_log (
+    id          bigint      not null,
+    project_id  bigint      not null,
+    revision    bigint      not null,
+    entity_type enum ('CHECKLIST_ITEM', 'COMMENT', 'PROJECT', 'TASK') not null,
+    entity_id   bigint      not null,
+    operation   enum ('DELETE', 'UPSERT') not null,
+    changed_at  datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_change_log_project_revision on change_log (project_id, revision);
+
+-- Blocos de IDs das entidades (@TableGenerator, allocationSize = 50). Com dados, o próximo bloco
+-- começa depois do maior ID já usado, como o IdGeneratorAligner também garante a cada subida.
+create table id_generators (
+    entity_name varchar(255) not null,
+    next_val    bigint,
+    primary key (entity_name)
+) engine = InnoDB;
+
+insert into id_generators (entity_name, next_val) select 'projects', coalesce(max(id) + 51, 0) from projects;
+insert into id_generators (entity_name, next_val) select 'tasks', coalesce(max(id) + 51, 0) from tasks;
+insert into id_generators (entity_name, next_val) select 'checklist_items', coalesce(max(id) + 51, 0) from checklist_items;
+insert into id_generators (entity_name, next_val) select 'comments', coalesce(max(id) + 51, 0) from comments;
+insert into id_generators (entity_name, next_val) values ('change_log', 0);
+
+-- Os IDs passam a vir da id_generators: sai o auto_increment. O MySQL recusa alterar colunas
+-- referenciadas por chaves estrangeiras sem desligar a checagem durante a alteração.
+set foreign_key_checks = 0;
+alter table projects modify id bigint not null;
+alter table tasks modify id bigint not null;
+alter table checklist_items modify id bigint not null;
+alter table comments modify id bigint not null;
+set foreign_key_checks = 1;
@@ -0,0 +1,11 @@
+-- Índices compostos para as consultas da API (o MySQL só cria sozinho os das chaves estrangeiras).
+
+-- Tarefas de um projeto por coluna do quadro (TaskRepository.findByProjectId, cartões do quadro,
+-- filtros por status). Também serve de índice para a chave estrangeira tasks.project_id.
+create index idx_tasks_project_status on tasks (project_id, status);
+
+-- Tarefas de um projeto por prazo (ordenação e filtros por due_date).
+create index idx_tasks_project_due_date on tasks (project_id, due_date);
+
+-- Comentários de uma tarefa em ordem cronológica. Também serve à chave estrangeira comments.task_id.
+create index idx_comments_task_created_at on comments (task_id, created_at);
@@ -0,0 +1,8 @@
+-- Os contadores checklist_total/checklist_checked foram adicionados (V2) a uma tabela que já
+-- podia ter dados, com 0. Preenche os das tarefas que têm itens mas ainda estão zeradas; depois disso,
+-- os serviços mantêm os valores. Antes das migrações, isto rodava a cada subida da aplicação.
+update tasks set
+    checklist_total = (select count(*) from checklist_items c where c.task_id = tasks.id),
+    checklist_checked = (select count(*) from checklist_items c where c.task_id = tasks.id and c.is_checked = true)
+where checklist_total = 0
+  and exists (select 1 from checklist_items c where c.task_id = tasks.id);
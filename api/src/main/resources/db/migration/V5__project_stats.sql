@@ -0,0 +1,64 @@
+-- Agregados por projeto, mantidos pelos serviços (ProjectStatsTracker) na mesma transação das alterações
+-- nas tarefas, para GET /api/projects/{id}/stats não precisar ler as tarefas. Sem chave estrangeira,
+-- como o change_log: a exclusão do projeto apaga estas linhas explicitamente.
+-- Tarefas sem prioridade = total (soma dos status) - soma das prioridades.
+create table project_stats (
+    project_id        bigint not null,
+    tasks_todo        bigint not null,
+    tasks_doing       bigint not null,
+    tasks_done        bigint not null,
+    priority_low      bigint not null,
+    priority_medium   bigint not null,
+    priority_high     bigint not null,
+    checklist_total   bigint not null,
+    checklist_checked bigint not null,
+    primary key (project_id)
+) engine = InnoDB;
+
+-- Tarefas em aberto (status diferente de DONE) por prazo. As atrasadas de um dia são a soma das
+-- linhas com due_date anterior a ele: uma faixa da chave primária, sem tocar na tabela de tarefas.
+create table project_open_due_dates (
+    project_id bigint not null,
+    due_date   date   not null,
+    open_tasks bigint not null,
+    primary key (project_id, due_date)
+) engine = InnoDB;
+
+-- Fotografia diária de project_stats (com as atrasadas do dia), gravada pelo job de
+-- ProjectStatsService: é a série do fluxo cumulativo e do burndown.
+create table project_daily_stats (
+    project_id        bigint not null,
+    snapshot_date     date   not null,
+    tasks_todo        bigint not null,
+    tasks_doing       bigint not null,
+    tasks_done        bigint not null,
+    priority_low      bigint not null,
+    priority_medium   bigint not null,
+    priority_high     bigint not null,
+    checklist_total   bigint not null,
+    checklist_checked bigint not null,
+    overdue           bigint not null,
+    primary key (project_id, snapshot_date)
+) engine = InnoDB;
+
+-- Projetos que já existiam: agregados calculados uma vez a partir das tarefas.
+insert into project_stats (project_id, tasks_todo, tasks_doing, tasks_done, priority_low, priority_medium,
+                           priority_high, checklist_total, checklist_checked)
+select p.id,
+       coalesce(sum(case when t.status = 'TODO' then 1 else 0 end), 0),
+       coalesce(sum(case when t.status = 'DOING' then 1 else 0 end), 0),
+       coalesce(sum(case when t.status = 'DONE' then 1 else 0 end), 0),
+       coalesce(sum(case when t.priority = 'LOW' then 1 else 0 end), 0),
+       coalesce(sum(case when t.priority = 'MEDIUM' then 1 else 0 end), 0),
+       coalesce(sum(case when t.priority = 'HIGH' then 1 else 0 end), 0),
+       coalesce(sum(t.checklist_total), 0),
+       coalesce(sum(t.checklist_checked), 0)
+from projects p
+left join tasks t on t.project_id = p.id
+group by p.id;
+
+insert into project_open_due_dates (project_id, due_date, open_tasks)
+select project_id, due_date, count(*)
+from tasks
+where due_date is not null and status <> 'DONE'
+group by project_id, due_date;
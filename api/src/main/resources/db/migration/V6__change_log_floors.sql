@@ -0,0 +1,9 @@
+-- Até onde o change log de cada projeto já foi podado pela retenção (ProjectChangeFeedService): as
+-- entradas com revisão até "revision" não existem mais, e um cursor anterior a ela não tem como ser
+-- atendido (o cliente recarrega o quadro). Sem chave estrangeira, como o change_log: a exclusão do
+-- projeto apaga a linha explicitamente.
+create table change_log_floors (
+    project_id bigint not null,
+    revision   bigint not null,
+    primary key (project_id)
+) engine = InnoDB;
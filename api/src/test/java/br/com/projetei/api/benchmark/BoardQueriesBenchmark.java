@@ -0,0 +1,119 @@
+package br.com.projetei.api.benchmark;
+
+import br.com.projetei.api.ApiApplication;
+import br.com.projetei.api.dto.ProjectBoardDTO;
+import br.com.projetei.api.dto.ProjectHeaderDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.repository.CommentRepository;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Consultas do carregamento do quadro contra o H2 embutido (sem o ProjectBoardCache na frente):
+// - boardGraph: projeto + tarefas, depois checklists e últimos comentários (as 3 consultas do quadro completo);
+// - boardSummary: cabeçalho + cartões com os contadores do checklist (o quadro resumido).
+// Cada execução abre a própria transação somente leitura, como o ProjectService faz num cache miss.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardQueriesBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int tasks;
+
+    @Param({"5"})
+    public int checklistItemsPerTask;
+
+    @Param({"3"})
+    public int commentsPerTask;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository projectRepository;
+    private TaskRepository taskRepository;
+    private CommentRepository commentRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Long projectId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // Sobe a aplicação sem servidor web, com o H2 de src/test/resources. As @TestConfiguration
+        // dos testes (que estão no classpath) ficam fora do component scan, como num @SpringBootTest.
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("excludeTestConfigurations", new ExcludeTestConfigurations()))
+                .run();
+        projectRepository = context.getBean(ProjectRepository.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        projectId = new TransactionTemplate(transactionManager).execute(status -> {
+            Project project = ProjectGraphs.project(tasks, checklistItemsPerTask, commentsPerTask, false);
+            entityManager.persist(project);
+            return project.getId();
+        });
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Project boardGraph() {
+        return readOnlyTransaction.execute(status -> {
+            Project project = projectRepository.findBoardById(projectId).orElseThrow();
+            taskRepository.fetchChecklistsByProjectIds(List.of(projectId));
+            commentRepository.findLatestByProjectIds(List.of(projectId), commentsPerTask);
+            return project;
+        });
+    }
+
+    @Benchmark
+    public ProjectBoardDTO boardSummary() {
+        return readOnlyTransaction.execute(status -> {
+            ProjectHeaderDTO header = projectRepository.findHeaderById(projectId).orElseThrow();
+            return ProjectBoardDTO.of(header, taskRepository.findCardsByProjectId(projectId));
+        });
+    }
+
+    static class ExcludeTestConfigurations extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+        }
+    }
+}
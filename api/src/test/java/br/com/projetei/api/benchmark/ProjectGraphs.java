@@ -0,0 +1,66 @@
+package br.com.projetei.api.benchmark;
+
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+// Grafos de projeto (tarefas com checklist e comentários) usados pelos benchmarks.
+// Os textos têm tamanhos parecidos com os de um quadro real, para o custo da serialização não ficar artificial.
+final class ProjectGraphs {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private ProjectGraphs() {}
+
+    // withIds: grafos só em memória (serialização) recebem IDs; os que vão para o banco, não.
+    static Project project(int tasks, int checklistItemsPerTask, int commentsPerTask, boolean withIds) {
+        long nextId = 1;
+        Project project = new Project();
+        if (withIds) project.setId(nextId++);
+        project.setName("Projeto de benchmark");
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        project.setDescription("Quadro gerado para medir o custo de carregar e serializar projetos grandes.");
+        project.setDueDate(LocalDate.of(2026, 12, 31));
+        project.setTasks(new ArrayList<>(tasks));
+        for (int t = 0; t < tasks; t++) {
+            Task task = new Task();
+            if (withIds) task.setId(nextId++);
+            task.setProject(project);
+            task.setTitle("Tarefa " + t + ": revisar o fluxo de cadastro");
+            task.setDescription("Descrição da tarefa " + t + ", com os critérios de aceite e links de referência.");
+            task.setDueDate(LocalDate.of(2026, 1, 1).plusDays(t % 365));
+            task.setStatus(STATUSES[t % STATUSES.length]);
+            task.setPriority(PRIORITIES[t % PRIORITIES.length]);
+            task.setChecklist(new ArrayList<>(checklistItemsPerTask));
+            task.setComments(new ArrayList<>(commentsPerTask));
+            for (int i = 0; i < checklistItemsPerTask; i++) {
+                ChecklistItem item = new ChecklistItem();
+                if (withIds) item.setId(nextId++);
+                item.setText("Item " + i + " do checklist");
+                item.setChecked(i % 2 == 0);
+                item.setTask(task);
+                task.getChecklist().add(item);
+            }
+            for (int c = 0; c < commentsPerTask; c++) {
+                Comment comment = new Comment();
+                if (withIds) comment.setId(nextId++);
+                comment.setText("Comentário " + c + " sobre o andamento da tarefa.");
+                comment.setAuthorName("Autor " + c);
+                comment.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(c));
+                comment.setTask(task);
+                task.getComments().add(comment);
+            }
+            project.getTasks().add(task);
+        }
+        return project;
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.projetei.api.benchmark;
+
+import br.com.projetei.api.dto.ProjectDetailsDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Serialização do quadro completo (o que GET /api/projects/by-code/{code} devolve) em JSON.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int tasks;
+
+    @Param({"5"})
+    public int checklistItemsPerTask;
+
+    @Param({"3"})
+    public int commentsPerTask;
+
+    private ObjectMapper objectMapper;
+    private ProjectDetailsDTO project;
+
+    @Setup
+    public void setUp() {
+        // Mesma configuração que o Spring Boot aplica ao ObjectMapper das respostas HTTP.
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        project = ProjectDetailsDTO.of(ProjectGraphs.project(tasks, checklistItemsPerTask, commentsPerTask, true));
+    }
+
+    @Benchmark
+    public byte[] serializeProjectGraph() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(project);
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.projetei.api.cache;
+
+import br.com.projetei.api.dto.ProjectDetailsDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectBoardCacheTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProjectBoardCache cache = new ProjectBoardCache(meterRegistry, 100, Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+    @Test
+    void concurrentLoadsOfSameCodeShareOneDatabaseLoad() throws Exception {
+        int callers = 40;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<ProjectDetailsDTO>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.getByCode("abc123", code -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return project(1L, code);
+                })));
+            }
+            // Dá tempo para todas as chamadas chegarem antes de liberar a carga do leader.
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<ProjectDetailsDTO> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).code()).isEqualTo("abc123");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        double coalesced = meterRegistry.get("projetei.boards.loads").tag("result", "coalesced").counter().count();
+        assertThat(coalesced).isPositive();
+    }
+
+    @Test
+    void evictDropsCachedBoard() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getByCode("abc123", code -> project((long) loads.incrementAndGet(), code));
+        cache.getByCode("abc123", code -> project((long) loads.incrementAndGet(), code));
+        cache.evict(1L, "abc123");
+        ProjectDetailsDTO reloaded = cache.getByCode("abc123", code -> project((long) loads.incrementAndGet(), code));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(reloaded.id()).isEqualTo(2L);
+    }
+
+    private static ProjectDetailsDTO project(Long id, String code) {
+        return new ProjectDetailsDTO(id, "Projeto", null, code, null, 0, List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
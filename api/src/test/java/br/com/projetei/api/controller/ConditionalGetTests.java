@@ -0,0 +1,133 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.dto.CreateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateTaskStatusDTO;
+import br.com.projetei.api.metrics.SqlStatements;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.service.ProjectService;
+import br.com.projetei.api.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET condicional do projeto (por ID e por código), do quadro e da tarefa: 200 com ETag, 304 com o
+// mesmo ETag em If-None-Match (só a leitura da revisão, sem carregar o grafo) e um ETag novo depois
+// de qualquer alteração numa tarefa ou num item do checklist.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void unchangedResourcesAnswer304() throws Exception {
+        Project project = createProject();
+        Task task = createTask(project.getId());
+
+        for (String url : urls(project, task)) {
+            String etag = etagOf(url);
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""))
+                    .andExpect(SqlStatements.atMost(1));
+        }
+    }
+
+    @Test
+    void taskChangeProducesANewETag() throws Exception {
+        Project project = createProject();
+        Task task = createTask(project.getId());
+        List<String> before = etagsOf(urls(project, task));
+
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(TaskStatus.DOING);
+        taskService.updateTaskStatus(task.getId(), dto);
+
+        assertChangedSince(urls(project, task), before);
+    }
+
+    @Test
+    void checklistChangeProducesANewETag() throws Exception {
+        Project project = createProject();
+        Task task = createTask(project.getId());
+        CreateChecklistItemDTO item = new CreateChecklistItemDTO();
+        item.setText("Revisar");
+        ChecklistItem created = taskService.addChecklistItemToTask(task.getId(), item);
+        List<String> before = etagsOf(urls(project, task));
+
+        UpdateChecklistItemDTO check = new UpdateChecklistItemDTO();
+        check.setChecked(true);
+        taskService.updateChecklistItem(created.getId(), check);
+
+        assertChangedSince(urls(project, task), before);
+    }
+
+    // O ETag antigo deixa de valer (200 com o conteúdo) e a resposta traz um ETag diferente.
+    private void assertChangedSince(List<String> urls, List<String> before) throws Exception {
+        for (int i = 0; i < urls.size(); i++) {
+            String etag = mockMvc.perform(get(urls.get(i)).header(HttpHeaders.IF_NONE_MATCH, before.get(i)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etag).as(urls.get(i)).isNotNull().isNotEqualTo(before.get(i));
+        }
+    }
+
+    private List<String> etagsOf(List<String> urls) throws Exception {
+        List<String> etags = new ArrayList<>();
+        for (String url : urls) {
+            etags.add(etagOf(url));
+        }
+        return etags;
+    }
+
+    private String etagOf(String url) throws Exception {
+        String etag = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).as(url).isNotNull().startsWith("\"");
+        return etag;
+    }
+
+    private static List<String> urls(Project project, Task task) {
+        return List.of("/api/projects/" + project.getId(),
+                "/api/projects/" + project.getId() + "/board",
+                "/api/projects/by-code/" + project.getCode(),
+                "/api/tasks/" + task.getId());
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setName("ETags");
+        project.setTasks(new ArrayList<>());
+        return projectService.createProject(project);
+    }
+
+    private Task createTask(Long projectId) {
+        Task task = new Task();
+        task.setTitle("Tarefa");
+        return taskService.createTask(projectId, task);
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.dto.UpdateTaskStatusDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.service.ProjectChangeFeedService;
+import br.com.projetei.api.service.ProjectService;
+import br.com.projetei.api.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Retenção do change log: as revisões mais velhas que projetei.changes.retention saem do banco, e
+// um cursor anterior a elas recebe resyncRequired em vez de um delta incompleto.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectChangeFeedTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectChangeFeedService changeFeedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorsOlderThanThePrunedChangesMustResync() throws Exception {
+        Project project = createProject();
+        createTask(project.getId(), "Antiga");
+        long oldRevision = changes(project.getId(), 0).get("cursor").asLong();
+        Task second = createTask(project.getId(), "Recente");
+        updateStatus(second.getId(), TaskStatus.DOING);
+
+        // As revisões até oldRevision passam a ter mais de 30 dias.
+        jdbcTemplate.update("update change_log set changed_at = ? where project_id = ? and revision <= ?",
+                LocalDateTime.now().minusDays(31), project.getId(), oldRevision);
+        changeFeedService.pruneExpiredChanges();
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from change_log where project_id = ? and revision <= ?",
+                Integer.class, project.getId(), oldRevision)).isZero();
+
+        JsonNode stale = changes(project.getId(), oldRevision - 1);
+        assertThat(stale.get("resyncRequired").asBoolean()).isTrue();
+        assertThat(stale.get("tasks")).isEmpty();
+        assertThat(stale.get("cursor").asLong()).isEqualTo(stale.get("project").get("revision").asLong());
+
+        JsonNode current = changes(project.getId(), oldRevision);
+        assertThat(current.get("resyncRequired").asBoolean()).isFalse();
+        assertThat(current.get("tasks")).extracting(task -> task.get("id").asLong()).containsExactly(second.getId());
+
+        projectService.deleteProject(project.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from change_log_floors where project_id = ?",
+                Integer.class, project.getId())).isZero();
+    }
+
+    @Test
+    void recentChangesAreKept() throws Exception {
+        Project project = createProject();
+        createTask(project.getId(), "Nova");
+
+        changeFeedService.pruneExpiredChanges();
+
+        JsonNode changes = changes(project.getId(), 0);
+        assertThat(changes.get("resyncRequired").asBoolean()).isFalse();
+        assertThat(changes.get("tasks")).hasSize(1);
+    }
+
+    private JsonNode changes(Long projectId, long since) throws Exception {
+        String body = mockMvc.perform(get("/api/projects/" + projectId + "/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setName("Sincronização");
+        project.setTasks(new ArrayList<>());
+        return projectService.createProject(project);
+    }
+
+    private Task createTask(Long projectId, String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.createTask(projectId, task);
+    }
+
+    private void updateStatus(Long taskId, TaskStatus status) {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(status);
+        taskService.updateTaskStatus(taskId, dto);
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.service.ProjectService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /api/projects: páginas por cursor (ID do último projeto, devolvido em X-Next-Cursor) e, com
+// Accept: application/x-ndjson, a lista inteira em streaming, um projeto por linha. O contexto é
+// compartilhado com outras classes de teste, então as páginas começam antes do primeiro projeto criado aqui.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectListPaginationTests {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void pagesFollowTheCursorWithoutGapsOrRepeats() throws Exception {
+        List<Long> created = createProjects(5);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = String.valueOf(created.get(0) - 1);
+        int pages = 0;
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get("/api/projects").param("limit", "2").param("after", cursor))
+                    .andExpect(status().isOk()).andReturn();
+            JsonNode page = json(result);
+            page.forEach(project -> seen.add(project.get("id").asLong()));
+            cursor = result.getResponse().getHeader(ProjectController.NEXT_CURSOR_HEADER);
+            if (cursor != null) {
+                assertThat(cursor).isEqualTo(page.get(page.size() - 1).get("id").asText());
+            }
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(created);
+    }
+
+    @Test
+    void limitIsClampedToTheMaximumPageSize() throws Exception {
+        List<Long> created = createProjects(MAX_PAGE_SIZE + 1);
+        String after = String.valueOf(created.get(0) - 1);
+
+        MvcResult result = mockMvc.perform(get("/api/projects").param("limit", "100000").param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ProjectController.NEXT_CURSOR_HEADER, String.valueOf(created.get(MAX_PAGE_SIZE - 1))))
+                .andReturn();
+        assertThat(json(result)).hasSize(MAX_PAGE_SIZE);
+
+        JsonNode single = json(mockMvc.perform(get("/api/projects").param("limit", "0").param("after", after))
+                .andExpect(status().isOk()).andReturn());
+        assertThat(single).hasSize(1);
+        assertThat(single.get(0).get("id").asLong()).isEqualTo(created.get(0));
+    }
+
+    @Test
+    void cursorBeyondTheLastProjectReturnsAnEmptyLastPage() throws Exception {
+        List<Long> created = createProjects(1);
+
+        mockMvc.perform(get("/api/projects").param("after", String.valueOf(created.get(0))))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ProjectController.NEXT_CURSOR_HEADER))
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void ndjsonListingStreamsOneProjectPerLine() throws Exception {
+        List<Long> created = createProjects(3);
+
+        MvcResult started = mockMvc.perform(get("/api/projects").accept(ProjectController.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted()).andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ProjectController.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        List<Long> ids = lines.stream().map(line -> line.get("id").asLong()).toList();
+        assertThat(ids).isSorted().containsAll(created);
+        JsonNode last = lines.get(lines.size() - 1);
+        assertThat(last.get("id").asLong()).isEqualTo(created.get(created.size() - 1));
+        assertThat(last.get("name").asText()).isEqualTo("Listagem " + (created.size() - 1));
+        assertThat(last.get("code").asText()).isNotBlank();
+        assertThat(last.has("tasks")).isFalse();
+    }
+
+    private List<Long> createProjects(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            Project project = new Project();
+            project.setName("Listagem " + i);
+            project.setTasks(new ArrayList<>());
+            return projectService.createProject(project).getId();
+        }).toList();
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,257 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.dto.BulkChecklistItemOperationDTO;
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.dto.UpdateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateTaskDTO;
+import br.com.projetei.api.dto.UpdateTaskStatusDTO;
+import br.com.projetei.api.metrics.SqlStatements;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import br.com.projetei.api.service.BulkTaskService;
+import br.com.projetei.api.service.ProjectService;
+import br.com.projetei.api.service.ProjectStatsService;
+import br.com.projetei.api.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Os agregados de GET /api/projects/{id}/stats acompanham as tarefas por todos os caminhos de escrita
+// (um a um, em lote, pelo checklist) e são conferidos contra uma contagem feita direto nas tarefas.
+// Os resumos do Dashboard (POST /api/projects/summaries) leem os mesmos agregados.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectStatsTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ChecklistItemRepository checklistItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statsFollowEveryKindOfTaskChange() throws Exception {
+        Long projectId = createProject().getId();
+        assertStatsMatchTasks(projectId);
+
+        Task late = createTask(projectId, "Atrasada", TODAY.minusDays(3));
+        Task dueToday = createTask(projectId, "Vence hoje", TODAY);
+        Task noDate = createTask(projectId, "Sem prazo", null);
+        assertStatsMatchTasks(projectId);
+
+        UpdateTaskDTO priority = new UpdateTaskDTO();
+        priority.setPriority(TaskPriority.HIGH);
+        priority.setDueDate(TODAY.minusDays(1));
+        taskService.updateTask(dueToday.getId(), priority);
+        taskService.updateTaskStatus(noDate.getId(), statusDto(TaskStatus.DOING));
+        taskService.updateTaskStatus(late.getId(), statusDto(TaskStatus.DONE));
+        assertStatsMatchTasks(projectId);
+
+        bulkTaskService.applyTaskOperations(projectId, List.of(
+                new BulkTaskOperationDTO(BulkOperationType.CREATE, null, "Lote", null, TODAY.minusDays(2), TaskPriority.LOW, null, List.of("a", "b", "c")),
+                new BulkTaskOperationDTO(BulkOperationType.STATUS, late.getId(), null, null, null, null, TaskStatus.TODO, null),
+                new BulkTaskOperationDTO(BulkOperationType.UPDATE, noDate.getId(), null, null, TODAY.minusDays(5), TaskPriority.LOW, null, null)));
+        assertStatsMatchTasks(projectId);
+
+        Task withChecklist = taskRepository.findByProjectId(projectId).stream()
+                .filter(task -> task.getTitle().equals("Lote")).findFirst().orElseThrow();
+        List<ChecklistItem> items = checklistItemRepository.findAll().stream()
+                .filter(item -> item.getTask().getId().equals(withChecklist.getId())).toList();
+        UpdateChecklistItemDTO check = new UpdateChecklistItemDTO();
+        check.setChecked(true);
+        taskService.updateChecklistItem(items.get(0).getId(), check);
+        assertStatsMatchTasks(projectId);
+
+        bulkTaskService.applyChecklistItemOperations(projectId, List.of(
+                new BulkChecklistItemOperationDTO(BulkOperationType.UPDATE, items.get(1).getId(), null, null, true),
+                new BulkChecklistItemOperationDTO(BulkOperationType.UPDATE, items.get(2).getId(), null, null, true)));
+        assertStatsMatchTasks(projectId);
+        assertThat(taskService.findTaskById(withChecklist.getId()).getStatus()).isEqualTo(TaskStatus.DONE);
+
+        taskService.deleteChecklistItem(items.get(0).getId());
+        taskService.deleteTask(dueToday.getId());
+        bulkTaskService.applyTaskOperations(projectId, List.of(
+                new BulkTaskOperationDTO(BulkOperationType.DELETE, late.getId(), null, null, null, null, null, null)));
+        assertStatsMatchTasks(projectId);
+    }
+
+    // Projeto gravado por fora dos serviços (sem linha em project_stats): a próxima escrita recalcula
+    // os agregados a partir das tarefas em vez de perder as diferenças.
+    @Test
+    void missingAggregatesAreRebuiltOnTheNextWrite() throws Exception {
+        Long projectId = createProject().getId();
+        Task late = createTask(projectId, "Atrasada", TODAY.minusDays(3));
+        createTask(projectId, "Sem prazo", null);
+        jdbcTemplate.update("delete from project_stats where project_id = ?", projectId);
+        jdbcTemplate.update("delete from project_open_due_dates where project_id = ?", projectId);
+
+        taskService.updateTaskStatus(late.getId(), statusDto(TaskStatus.DONE));
+        assertStatsMatchTasks(projectId);
+
+        createTask(projectId, "Vence ontem", TODAY.minusDays(1));
+        assertStatsMatchTasks(projectId);
+    }
+
+    @Test
+    void dailySnapshotsBuildTheHistoryAndDeletingTheProjectRemovesThem() throws Exception {
+        Long projectId = createProject().getId();
+        Task first = createTask(projectId, "Primeira", TODAY.minusDays(1));
+        createTask(projectId, "Segunda", null);
+        projectStatsService.takeSnapshot(TODAY.minusDays(2));
+        taskService.updateTaskStatus(first.getId(), statusDto(TaskStatus.DONE));
+        projectStatsService.takeSnapshot(TODAY.minusDays(1));
+        createTask(projectId, "Terceira", null);
+
+        JsonNode stats = stats(projectId, 30);
+        JsonNode history = stats.get("history");
+        assertThat(history).hasSize(3);
+        assertThat(history.get(0).get("date").asText()).isEqualTo(TODAY.minusDays(2).toString());
+        assertThat(history.get(0).get("todo").asLong()).isEqualTo(2);
+        assertThat(history.get(0).get("overdue").asLong()).isZero();
+        assertThat(history.get(1).get("done").asLong()).isEqualTo(1);
+        assertThat(history.get(2).get("date").asText()).isEqualTo(TODAY.toString());
+        assertThat(history.get(2).get("todo").asLong()).isEqualTo(2);
+        assertThat(stats(projectId, 1).get("history")).hasSize(2);
+        assertThat(stats(projectId, 0).get("history")).hasSize(1);
+
+        projectService.deleteProject(projectId);
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/projects/" + projectId + "/stats")))
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void summariesComeByIdOrCodeInOneQuery() throws Exception {
+        Project byId = createProject();
+        Project byCode = createProject();
+        Project both = createProject();
+        Task task = createTask(byId.getId(), "Uma", null);
+        createTask(byId.getId(), "Outra", null);
+        taskService.updateTaskStatus(task.getId(), statusDto(TaskStatus.DONE));
+        createTask(byCode.getId(), "Só uma", null);
+
+        JsonNode summaries = summaries(Map.of(
+                "ids", List.of(byId.getId(), both.getId(), Long.MAX_VALUE),
+                "codes", List.of(byCode.getCode(), both.getCode(), "inexistente")));
+
+        assertThat(summaries).extracting(summary -> summary.get("id").asLong())
+                .containsExactly(byId.getId(), byCode.getId(), both.getId());
+        assertThat(summaries.get(0).get("totalTasks").asLong()).isEqualTo(2);
+        assertThat(summaries.get(0).get("todo").asLong()).isEqualTo(1);
+        assertThat(summaries.get(0).get("done").asLong()).isEqualTo(1);
+        assertThat(summaries.get(1).get("code").asText()).isEqualTo(byCode.getCode());
+        assertThat(summaries.get(1).get("totalTasks").asLong()).isEqualTo(1);
+        assertThat(summaries.get(2).get("totalTasks").asLong()).isZero();
+
+        assertThat(summaries(Map.of("codes", List.of(byCode.getCode())))).hasSize(1);
+        assertThat(summaries(Map.of("ids", List.of(byId.getId())))).hasSize(1);
+        assertThat(summaries(Map.of())).isEmpty();
+
+        mockMvc.perform(post("/api/projects/summaries").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", IntStream.rangeClosed(1, 201).boxed().toList()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode summaries(Map<String, ?> body) throws Exception {
+        String response = mockMvc.perform(post("/api/projects/summaries").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(1))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    // Compara a resposta (uma única consulta) com o que se conta carregando todas as tarefas.
+    private void assertStatsMatchTasks(Long projectId) throws Exception {
+        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        JsonNode stats = stats(projectId, 0);
+
+        assertThat(stats.get("totalTasks").asLong()).isEqualTo(tasks.size());
+        for (TaskStatus status : TaskStatus.values()) {
+            assertThat(stats.get("byStatus").get(status.name()).asLong()).as("status %s", status)
+                    .isEqualTo(tasks.stream().filter(task -> task.getStatus() == status).count());
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            assertThat(stats.get("byPriority").get(priority.name()).asLong()).as("prioridade %s", priority)
+                    .isEqualTo(tasks.stream().filter(task -> task.getPriority() == priority).count());
+        }
+        assertThat(stats.get("overdue").asLong()).isEqualTo(tasks.stream()
+                .filter(task -> task.getDueDate() != null && task.getDueDate().isBefore(TODAY) && task.getStatus() != TaskStatus.DONE)
+                .count());
+        assertThat(stats.get("checklistTotal").asLong()).isEqualTo(tasks.stream().mapToLong(Task::getChecklistTotal).sum());
+        assertThat(stats.get("checklistChecked").asLong()).isEqualTo(tasks.stream().mapToLong(Task::getChecklistChecked).sum());
+    }
+
+    private JsonNode stats(Long projectId, int days) throws Exception {
+        String body = mockMvc.perform(get("/api/projects/" + projectId + "/stats").param("days", String.valueOf(days)))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(1))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setName("Indicadores");
+        project.setTasks(new ArrayList<>());
+        return projectService.createProject(project);
+    }
+
+    private Task createTask(Long projectId, String title, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDueDate(dueDate);
+        return taskService.createTask(projectId, task);
+    }
+
+    private static UpdateTaskStatusDTO statusDto(TaskStatus status) {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO();
+        dto.setStatus(status);
+        return dto;
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.metrics.SqlStatements;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Filtros, ordenação e paginação por cursor de GET /api/projects/{id}/tasks, resolvidos no banco.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectTaskQueryTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void createProject() {
+        Project project = new Project();
+        project.setName("Filtros");
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        project.setTasks(new ArrayList<>());
+        addTask(project, "A", TaskStatus.TODO, TaskPriority.HIGH, TODAY.minusDays(3), 0, 2);
+        addTask(project, "B", TaskStatus.DOING, TaskPriority.LOW, TODAY.plusDays(5), 1, 1);
+        addTask(project, "C", TaskStatus.DONE, TaskPriority.HIGH, TODAY.minusDays(10), 2, 2);
+        addTask(project, "D", TaskStatus.TODO, null, null, 0, 0);
+        addTask(project, "E", TaskStatus.DOING, TaskPriority.MEDIUM, TODAY.plusDays(1), 1, 3);
+        addTask(project, "F", TaskStatus.TODO, TaskPriority.HIGH, TODAY.plusDays(1), 0, 0);
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @Test
+    void filtersRunOnTheServer() throws Exception {
+        assertThat(titles(tasks().param("status", "TODO,DOING").param("priority", "HIGH"))).containsExactly("A", "F");
+        assertThat(titles(tasks().param("overdue", "true"))).containsExactly("A");
+        assertThat(titles(tasks().param("overdue", "false"))).containsExactly("B", "C", "D", "E", "F");
+        assertThat(titles(tasks().param("hasUncheckedChecklist", "true"))).containsExactly("A", "E");
+        assertThat(titles(tasks().param("dueFrom", TODAY.toString()).param("dueTo", TODAY.plusDays(1).toString())))
+                .containsExactly("E", "F");
+    }
+
+    @Test
+    void sortsWithNullsLast() throws Exception {
+        assertThat(titles(tasks().param("sort", "dueDate"))).containsExactly("C", "A", "E", "F", "B", "D");
+        assertThat(titles(tasks().param("sort", "priority,desc"))).containsExactly("F", "C", "A", "E", "B", "D");
+        assertThat(titles(tasks().param("sort", "title,desc"))).containsExactly("F", "E", "D", "C", "B", "A");
+    }
+
+    @Test
+    void pagesFollowTheCursorInEverySortOrder() throws Exception {
+        for (String sort : List.of("id", "id,desc", "dueDate", "dueDate,desc", "priority", "priority,desc", "title")) {
+            List<String> all = titles(tasks().param("sort", sort));
+            assertThat(allPages(sort)).as(sort).isEqualTo(all);
+        }
+    }
+
+    @Test
+    void pageLoadsOnlyItsOwnTasksWithAFixedNumberOfQueries() throws Exception {
+        MvcResult result = mockMvc.perform(tasks().param("status", "TODO").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3))
+                .andReturn();
+
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).get(0).has("checklist")).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidSortAndCursorsFromAnotherSort() throws Exception {
+        mockMvc.perform(tasks().param("sort", "color")).andExpect(status().isBadRequest());
+        mockMvc.perform(tasks().param("status", "LATER")).andExpect(status().isBadRequest());
+
+        String cursor = mockMvc.perform(tasks().param("sort", "dueDate").param("limit", "1"))
+                .andReturn().getResponse().getHeader(ProjectController.NEXT_CURSOR_HEADER);
+        mockMvc.perform(tasks().param("sort", "title").param("limit", "1").param("after", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<String> allPages(String sort) throws Exception {
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = tasks().param("sort", sort).param("limit", "2");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            objectMapper.readTree(result.getResponse().getContentAsString()).forEach(task -> titles.add(task.get("title").asText()));
+            cursor = result.getResponse().getHeader(ProjectController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+        return titles;
+    }
+
+    private List<String> titles(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        List<String> titles = new ArrayList<>();
+        objectMapper.readTree(result.getResponse().getContentAsString()).forEach(task -> titles.add(task.get("title").asText()));
+        return titles;
+    }
+
+    private MockHttpServletRequestBuilder tasks() {
+        return get("/api/projects/" + projectId + "/tasks");
+    }
+
+    private static void addTask(Project project, String title, TaskStatus status, TaskPriority priority, LocalDate dueDate,
+                                int checked, int total) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setProject(project);
+        task.setChecklist(new ArrayList<>());
+        for (int i = 0; i < total; i++) {
+            ChecklistItem item = new ChecklistItem();
+            item.setText(title + " " + i);
+            item.setChecked(i < checked);
+            item.setTask(task);
+            task.getChecklist().add(item);
+        }
+        task.setComments(new ArrayList<>());
+        project.getTasks().add(task);
+    }
+}
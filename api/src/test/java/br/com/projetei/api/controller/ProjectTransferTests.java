@@ -0,0 +1,240 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.dto.ProjectHeaderDTO;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import br.com.projetei.api.service.ProjectTransferService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Exportação e importação em NDJSON. Blocos de 2 tarefas na importação, para passar por várias
+// transações (e pela exclusão do projeto parcial quando uma linha do meio é inválida).
+@SpringBootTest(properties = "projetei.transfer.import-chunk-size=2")
+@AutoConfigureMockMvc
+class ProjectTransferTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectTransferService transferService;
+
+    @Test
+    void exportedProjectImportsAsANewProjectWithTheSameContent() throws Exception {
+        Project original = createProject(5);
+
+        String exported = export(original.getId());
+        List<JsonNode> lines = lines(exported);
+        assertThat(lines).extracting(line -> line.get("type").asText()).containsExactly(
+                "PROJECT",
+                "TASK", "CHECKLIST_ITEM", "COMMENT",
+                "TASK", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "COMMENT",
+                "TASK", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "COMMENT",
+                "TASK", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "COMMENT",
+                "TASK", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "CHECKLIST_ITEM", "COMMENT");
+
+        MvcResult result = mockMvc.perform(post("/api/projects/import")
+                        .contentType(ProjectController.APPLICATION_NDJSON).content(exported))
+                .andExpect(status().isCreated()).andReturn();
+        JsonNode imported = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(imported.get("code").asText()).isNotEqualTo(original.getCode());
+
+        assertThat(withoutIds(lines(export(imported.get("id").asLong())))).isEqualTo(withoutIds(lines));
+        assertThat(taskRepository.findByProjectId(imported.get("id").asLong()))
+                .extracting(Task::getChecklistTotal).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    }
+
+    // Cada bloco gera uma revisão: o quadro lido entre dois blocos (e guardado no cache) não vale
+    // mais depois do seguinte, e o change log traz o que chegou depois da leitura.
+    @Test
+    void boardReadMidImportIsNotServedAgainAfterTheNextChunks() throws Exception {
+        String name = "Em andamento " + UUID.randomUUID();
+        String firstChunk = String.join("\n",
+                "{\"type\":\"PROJECT\",\"name\":\"" + name + "\"}",
+                "{\"type\":\"TASK\",\"id\":1,\"title\":\"Um\"}",
+                "{\"type\":\"TASK\",\"id\":2,\"title\":\"Dois\"}",
+                "{\"type\":\"TASK\",\"id\":3,\"title\":\"Três\"}") + "\n";
+        String rest = String.join("\n",
+                "{\"type\":\"CHECKLIST_ITEM\",\"taskId\":3,\"text\":\"a\",\"checked\":true}",
+                "{\"type\":\"TASK\",\"id\":4,\"title\":\"Quatro\"}",
+                "{\"type\":\"TASK\",\"id\":5,\"title\":\"Cinco\"}");
+        AtomicReference<MvcResult> midImport = new AtomicReference<>();
+
+        // Quando a importação pede o resto do arquivo, o primeiro bloco (tarefas 1 e 2) já foi gravado.
+        InputStream readsBoardBeforeTheRest = new InputStream() {
+            private InputStream delegate;
+
+            @Override
+            public int read() throws IOException {
+                return delegate().read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return delegate().read(buffer, offset, length);
+            }
+
+            private InputStream delegate() {
+                if (delegate == null) {
+                    Long projectId = projectRepository.findAll().stream()
+                            .filter(project -> project.getName().equals(name)).findFirst().orElseThrow().getId();
+                    try {
+                        midImport.set(mockMvc.perform(get("/api/projects/" + projectId + "/board"))
+                                .andExpect(status().isOk()).andReturn());
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    delegate = new ByteArrayInputStream(rest.getBytes(StandardCharsets.UTF_8));
+                }
+                return delegate;
+            }
+        };
+        ProjectHeaderDTO imported = transferService.importProject(new SequenceInputStream(
+                new ByteArrayInputStream(firstChunk.getBytes(StandardCharsets.UTF_8)), readsBoardBeforeTheRest));
+
+        JsonNode partial = objectMapper.readTree(midImport.get().getResponse().getContentAsString());
+        assertThat(partial.get("tasks")).hasSize(2);
+        String partialETag = midImport.get().getResponse().getHeader("ETag");
+
+        String board = mockMvc.perform(get("/api/projects/" + imported.id() + "/board").header("If-None-Match", partialETag))
+                .andExpect(status().isOk()).andExpect(header().string("ETag", "\"b" + imported.id() + "-r" + imported.revision() + "\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(objectMapper.readTree(board).get("tasks")).hasSize(5);
+
+        String changes = mockMvc.perform(get("/api/projects/" + imported.id() + "/changes")
+                        .param("since", String.valueOf(partial.get("revision").asLong())))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        JsonNode delta = objectMapper.readTree(changes);
+        assertThat(delta.get("tasks")).extracting(task -> task.get("title").asText()).containsExactlyInAnyOrder("Três", "Quatro", "Cinco");
+        assertThat(delta.get("checklistItems")).hasSize(1);
+        assertThat(delta.get("cursor").asLong()).isEqualTo(imported.revision());
+    }
+
+    @Test
+    void invalidLinesLeaveNothingBehind() throws Exception {
+        long projects = projectRepository.count();
+        long tasks = taskRepository.count();
+        String body = String.join("\n",
+                "{\"type\":\"PROJECT\",\"name\":\"Quebrado\"}",
+                "{\"type\":\"TASK\",\"id\":1,\"title\":\"Um\"}",
+                "{\"type\":\"TASK\",\"id\":2,\"title\":\"Dois\"}",
+                "{\"type\":\"TASK\",\"id\":3,\"title\":\"Três\"}",
+                "{\"type\":\"COMMENT\",\"taskId\":1,\"authorName\":\"Ana\",\"text\":\"Fora do bloco\"}");
+
+        mockMvc.perform(post("/api/projects/import").contentType(ProjectController.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/projects/import").contentType(ProjectController.APPLICATION_NDJSON)
+                        .content("{\"type\":\"TASK\",\"title\":\"Sem projeto\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/projects/import").contentType(ProjectController.APPLICATION_NDJSON)
+                        .content("{\"type\":\"PROJECT\",\"name\":\"X\"}\n{nao e json"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(projectRepository.count()).isEqualTo(projects);
+        assertThat(taskRepository.count()).isEqualTo(tasks);
+    }
+
+    @Test
+    void exportOfUnknownProjectFailsBeforeStreaming() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/projects/" + Long.MAX_VALUE + "/export")))
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    private String export(Long projectId) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/projects/" + projectId + "/export"))
+                .andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> lines(String ndjson) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    // Os IDs e o código mudam na importação; todo o resto tem que chegar igual.
+    private static List<JsonNode> withoutIds(List<JsonNode> lines) {
+        return lines.stream().map(line -> (JsonNode) ((ObjectNode) line.deepCopy()).remove(List.of("id", "taskId", "code"))).toList();
+    }
+
+    private Project createProject(int taskCount) {
+        Project project = new Project();
+        project.setName("Exportação");
+        project.setDescription("Projeto a exportar");
+        project.setDueDate(LocalDate.of(2030, 1, 31));
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        project.setTasks(new ArrayList<>());
+        for (int i = 1; i <= taskCount; i++) {
+            Task task = new Task();
+            task.setTitle("Tarefa " + i);
+            task.setDescription("Descrição " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.DOING : TaskStatus.TODO);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setDueDate(LocalDate.of(2030, 1, i));
+            task.setProject(project);
+            task.setChecklist(new ArrayList<>());
+            for (int j = 0; j < i; j++) {
+                ChecklistItem item = new ChecklistItem();
+                item.setText("Item " + i + "." + j);
+                item.setChecked(j % 2 == 0);
+                item.setTask(task);
+                task.getChecklist().add(item);
+            }
+            Comment comment = new Comment();
+            comment.setText("Comentário " + i);
+            comment.setAuthorName("Ana");
+            comment.setCreatedAt(LocalDateTime.of(2030, 1, i, 12, 0));
+            comment.setTask(task);
+            task.setComments(new ArrayList<>(List.of(comment)));
+            project.getTasks().add(task);
+        }
+        return projectRepository.save(project);
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.metrics.SqlStatements;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Orçamento de SQL das leituras do quadro, pela API (serialização incluída). Cada projeto é
+// novo, então nada vem do cache de quadros. Um relacionamento novo em Task ou Project que
+// volte a ser carregado tarefa a tarefa estoura o limite e faz a contagem crescer com o projeto.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReadEndpointsQueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void boardReadsStayWithinBudget() throws Exception {
+        Project project = createProjectWithTasks(20);
+        Task task = project.getTasks().get(0);
+
+        mockMvc.perform(get("/api/projects/by-code/" + project.getCode()))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(4));
+        mockMvc.perform(get("/api/projects/" + createProjectWithTasks(20).getId()))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(4));
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/board"))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(4));
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/tasks"))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(4));
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(status().isOk()).andExpect(SqlStatements.atMost(4));
+    }
+
+    @Test
+    void boardQueryCountDoesNotGrowWithTaskCount() throws Exception {
+        int small = SqlStatements.of(mockMvc.perform(get("/api/projects/by-code/" + createProjectWithTasks(2).getCode()))
+                .andExpect(status().isOk()).andReturn());
+        int large = SqlStatements.of(mockMvc.perform(get("/api/projects/by-code/" + createProjectWithTasks(40).getCode()))
+                .andExpect(status().isOk()).andReturn());
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private Project createProjectWithTasks(int taskCount) {
+        Project project = new Project();
+        project.setName("Projeto com " + taskCount + " tarefas");
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        project.setTasks(new ArrayList<>());
+
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task();
+            task.setTitle("Tarefa " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setProject(project);
+            task.setChecklist(new ArrayList<>());
+            task.setComments(new ArrayList<>());
+
+            for (int j = 0; j < 2; j++) {
+                ChecklistItem item = new ChecklistItem();
+                item.setText("Item " + j);
+                item.setTask(task);
+                task.getChecklist().add(item);
+
+                Comment comment = new Comment();
+                comment.setText("Comentário " + j);
+                comment.setAuthorName("Tester");
+                comment.setCreatedAt(LocalDateTime.now());
+                comment.setTask(task);
+                task.getComments().add(comment);
+            }
+            project.getTasks().add(task);
+        }
+        return projectRepository.save(project);
+    }
+}
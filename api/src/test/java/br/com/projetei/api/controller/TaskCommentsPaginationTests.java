@@ -0,0 +1,147 @@
+package br.com.projetei.api.controller;
+
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A tarefa leva só o total e os últimos comentários; a lista completa vem paginada por cursor
+// (created_at, id), inclusive com comentários criados no mesmo instante.
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskCommentsPaginationTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void taskCarriesCountAndLatestCommentsOnly() throws Exception {
+        Task task = createTaskWithComments(7);
+
+        JsonNode json = json(mockMvc.perform(get("/api/tasks/" + task.getId())).andExpect(status().isOk()).andReturn());
+
+        assertThat(json.has("comments")).isFalse();
+        assertThat(json.get("commentCount").asLong()).isEqualTo(7);
+        assertThat(texts(json.get("latestComments"))).containsExactly("Comentário 4", "Comentário 5", "Comentário 6");
+    }
+
+    @Test
+    void pagesFollowTheCursorWithoutGapsOrRepeats() throws Exception {
+        Task task = createTaskWithComments(7);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/tasks/" + task.getId() + "/comments")
+                            .param("limit", "3").param("after", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk()).andReturn();
+            seen.addAll(texts(json(result)));
+            cursor = result.getResponse().getHeader(ProjectController.NEXT_CURSOR_HEADER);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactly("Comentário 0", "Comentário 1", "Comentário 2", "Comentário 3",
+                "Comentário 4", "Comentário 5", "Comentário 6");
+    }
+
+    // Comentários sem created_at (anteriores à coluna ser preenchida) vêm antes dos outros, e o cursor
+    // de uma página que termina num deles continua valendo.
+    @Test
+    void undatedCommentsArePagedFirst() throws Exception {
+        Task task = createTaskWithComments(4);
+        jdbcTemplate.update("update comments set created_at = null where task_id = ? and text in ('Comentário 1', 'Comentário 3')",
+                task.getId());
+
+        List<String> seen = new ArrayList<>();
+        List<String> cursors = new ArrayList<>();
+        String cursor = null;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/tasks/" + task.getId() + "/comments")
+                            .param("limit", "1").param("after", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk()).andReturn();
+            seen.addAll(texts(json(result)));
+            cursor = result.getResponse().getHeader(ProjectController.NEXT_CURSOR_HEADER);
+            cursors.add(cursor);
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly("Comentário 1", "Comentário 3", "Comentário 0", "Comentário 2");
+        assertThat(cursors.get(0)).startsWith("null_");
+    }
+
+    @Test
+    void invalidCursorIsRejected() throws Exception {
+        Task task = createTaskWithComments(1);
+
+        mockMvc.perform(get("/api/tasks/" + task.getId() + "/comments").param("after", "ontem"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Os comentários 2 e 3 têm o mesmo created_at: a ordem entre eles vem do ID.
+    private Task createTaskWithComments(int commentCount) {
+        Project project = new Project();
+        project.setName("Comentários");
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        project.setTasks(new ArrayList<>());
+
+        Task task = new Task();
+        task.setTitle("Conversa longa");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task.setChecklist(new ArrayList<>());
+        task.setComments(new ArrayList<>());
+        for (int i = 0; i < commentCount; i++) {
+            Comment comment = new Comment();
+            comment.setText("Comentário " + i);
+            comment.setAuthorName("Tester");
+            comment.setCreatedAt(START.plusMinutes(i == 3 ? 2 : i));
+            comment.setTask(task);
+            task.getComments().add(comment);
+        }
+        project.getTasks().add(task);
+        return projectRepository.save(project).getTasks().get(0);
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static List<String> texts(JsonNode comments) {
+        List<String> texts = new ArrayList<>();
+        comments.forEach(comment -> texts.add(comment.get("text").asText()));
+        return texts;
+    }
+}
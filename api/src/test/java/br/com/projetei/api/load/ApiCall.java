@@ -0,0 +1,109 @@
+package br.com.projetei.api.load;
+
+import br.com.projetei.api.model.enums.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+// Chamadas que compõem a carga, com o peso padrão de cada uma no sorteio. A proporção imita o uso
+// do quadro: muita leitura (abrir quadro, abrir tarefa) e escritas pequenas (marcar item, comentar).
+enum ApiCall {
+
+    BOARD("board", "GET /api/projects/by-code/{code}", 25) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return get(baseUrl + "/api/projects/by-code/" + data.randomProjectCode(random));
+        }
+    },
+    BOARD_SUMMARY("summary", "GET /api/projects/{id}/board", 15) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return get(baseUrl + "/api/projects/" + data.randomProjectId(random) + "/board");
+        }
+    },
+    CHANGES("changes", "GET /api/projects/{id}/changes", 5) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return get(baseUrl + "/api/projects/" + data.randomProjectId(random) + "/changes?since=0");
+        }
+    },
+    TASK("task", "GET /api/tasks/{id}", 20) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return get(baseUrl + "/api/tasks/" + data.randomTaskId(random));
+        }
+    },
+    TOGGLE_ITEM("toggle", "PATCH /api/checklist-items/{id}", 15) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return json(baseUrl + "/api/checklist-items/" + data.randomChecklistItemId(random), "PATCH",
+                    "{\"checked\":" + random.nextBoolean() + "}");
+        }
+    },
+    TASK_STATUS("status", "PATCH /api/tasks/{id}/status", 5) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+            return json(baseUrl + "/api/tasks/" + data.randomTaskId(random) + "/status", "PATCH",
+                    "{\"status\":\"" + status + "\"}");
+        }
+    },
+    COMMENT("comment", "POST /api/tasks/{id}/comments", 10) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return json(baseUrl + "/api/tasks/" + data.randomTaskId(random) + "/comments", "POST",
+                    "{\"text\":\"Comentário de carga " + random.nextInt(1_000_000) + "\",\"authorName\":\"Carga\"}");
+        }
+    },
+    UPDATE_TASK("edit", "PATCH /api/tasks/{id}", 5) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random) {
+            return json(baseUrl + "/api/tasks/" + data.randomTaskId(random), "PATCH",
+                    "{\"title\":\"Tarefa revisada " + random.nextInt(1_000_000) + "\"}");
+        }
+    };
+
+    private final String key;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    ApiCall(String key, String endpoint, int defaultWeight) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract HttpRequest.Builder request(String baseUrl, SeededData data, SplittableRandom random);
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static ApiCall byKey(String key) {
+        for (ApiCall call : values()) {
+            if (call.key.equals(key)) {
+                return call;
+            }
+        }
+        throw new IllegalArgumentException("Chamada desconhecida em load.mix: " + key);
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+}
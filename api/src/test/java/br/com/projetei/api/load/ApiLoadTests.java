@@ -0,0 +1,241 @@
+package br.com.projetei.api.load;
+
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.ProjectStatsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Carga HTTP reproduzível: gera a massa (LoadDataGenerator) e repete um mix de chamadas dos
+// controllers de projetos, tarefas, itens e comentários (ApiCall) com N clientes simultâneos,
+// cada um esperando a resposta antes de mandar a próxima. No fim, imprime vazão e latências
+// (p50/p95/p99/máx) por endpoint e grava o mesmo relatório em target/load-report.json.
+//
+// Parâmetros em LoadProfile. Roda no H2 dos testes por padrão; para um MySQL local:
+//   mvn -Pload-tests test -Dtest=ApiLoadTests -Dspring.datasource.url=jdbc:mysql://localhost:3306/projetei_load \
+//       -Dspring.datasource.username=... -Dspring.datasource.password=... \
+//       -Dspring.jpa.database-platform=org.hibernate.dialect.MySQLDialect
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext
+class ApiLoadTests {
+
+    private static final Path REPORT = Path.of("target", "load-report.json");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectStatsRepository projectStatsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void replaysEndpointMix() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        SeededData data = new LoadDataGenerator(projectRepository, projectStatsRepository, new TransactionTemplate(transactionManager), jdbcTemplate)
+                .prepare(profile);
+        System.out.printf("[carga] massa pronta: %d projetos, %d tarefas, %d itens de checklist%n",
+                data.projectIds().length, data.taskIds().length, data.checklistItemIds().length);
+
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        WeightedCalls calls = new WeightedCalls(profile.mix(), data);
+        replay(http, data, calls, profile, profile.warmupRequests(), profile.seed() + 1_000_003);
+        Run run = replay(http, data, calls, profile, profile.requests(), profile.seed());
+
+        LoadReport report = LoadReport.of(profile, data, run);
+        report.print();
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+
+        assertThat(report.endpoints()).allSatisfy(endpoint -> assertThat(endpoint.serverErrors()).isZero());
+    }
+
+    private Run replay(HttpClient http, SeededData data, WeightedCalls calls, LoadProfile profile, int requests, long seed)
+            throws Exception {
+        String baseUrl = "http://localhost:" + port;
+        AtomicInteger next = new AtomicInteger();
+        List<Samples> perClient = new ArrayList<>();
+        ExecutorService clients = Executors.newFixedThreadPool(profile.clients());
+        long start = System.nanoTime();
+        try {
+            List<Future<Samples>> running = new ArrayList<>();
+            for (int c = 0; c < profile.clients(); c++) {
+                SplittableRandom random = new SplittableRandom(seed + c);
+                running.add(clients.submit(() -> {
+                    Samples samples = new Samples();
+                    while (next.getAndIncrement() < requests) {
+                        ApiCall call = calls.pick(random);
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = http.send(call.request(baseUrl, data, random).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        samples.add(call, System.nanoTime() - sent, response.statusCode());
+                    }
+                    return samples;
+                }));
+            }
+            for (Future<Samples> client : running) {
+                perClient.add(client.get(30, TimeUnit.MINUTES));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return new Run(perClient, System.nanoTime() - start);
+    }
+
+    // Sorteio ponderado das chamadas; chamadas sem dados para sortear (ex.: massa sem itens) ficam de fora.
+    private static final class WeightedCalls {
+
+        private final ApiCall[] calls;
+        private final int[] cumulativeWeights;
+
+        WeightedCalls(Map<ApiCall, Integer> mix, SeededData data) {
+            List<ApiCall> enabled = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (Map.Entry<ApiCall, Integer> entry : mix.entrySet()) {
+                if (entry.getValue() <= 0 || (entry.getKey() == ApiCall.TOGGLE_ITEM && data.checklistItemIds().length == 0)) {
+                    continue;
+                }
+                total += entry.getValue();
+                enabled.add(entry.getKey());
+                cumulative.add(total);
+            }
+            if (enabled.isEmpty()) {
+                throw new IllegalArgumentException("load.mix não tem nenhuma chamada com peso positivo");
+            }
+            calls = enabled.toArray(ApiCall[]::new);
+            cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        ApiCall pick(SplittableRandom random) {
+            int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (draw < cumulativeWeights[i]) {
+                    return calls[i];
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    // Amostras de um cliente (sem disputa entre threads; juntadas só no relatório).
+    static final class Samples {
+
+        final Map<ApiCall, long[]> latencies = new EnumMap<>(ApiCall.class);
+        final Map<ApiCall, Integer> counts = new EnumMap<>(ApiCall.class);
+        final Map<ApiCall, Integer> clientErrors = new EnumMap<>(ApiCall.class);
+        final Map<ApiCall, Integer> serverErrors = new EnumMap<>(ApiCall.class);
+
+        void add(ApiCall call, long nanos, int statusCode) {
+            int count = counts.getOrDefault(call, 0);
+            long[] values = latencies.computeIfAbsent(call, c -> new long[64]);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(call, values);
+            }
+            values[count] = nanos;
+            counts.put(call, count + 1);
+            if (statusCode >= 500) {
+                serverErrors.merge(call, 1, Integer::sum);
+            } else if (statusCode >= 400) {
+                clientErrors.merge(call, 1, Integer::sum);
+            }
+        }
+    }
+
+    record Run(List<Samples> samples, long elapsedNanos) {}
+
+    record EndpointReport(String endpoint, int requests, int clientErrors, int serverErrors, double throughput,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {}
+
+    record LoadReport(LoadProfile profile, int projects, int tasks, int checklistItems, double elapsedSeconds,
+                      double throughput, List<EndpointReport> endpoints) {
+
+        static LoadReport of(LoadProfile profile, SeededData data, Run run) {
+            double seconds = run.elapsedNanos() / 1e9;
+            List<EndpointReport> endpoints = new ArrayList<>();
+            int total = 0;
+            for (ApiCall call : ApiCall.values()) {
+                int count = 0;
+                int clientErrors = 0;
+                int serverErrors = 0;
+                for (Samples samples : run.samples()) {
+                    count += samples.counts.getOrDefault(call, 0);
+                    clientErrors += samples.clientErrors.getOrDefault(call, 0);
+                    serverErrors += samples.serverErrors.getOrDefault(call, 0);
+                }
+                if (count == 0) {
+                    continue;
+                }
+                long[] all = new long[count];
+                int offset = 0;
+                for (Samples samples : run.samples()) {
+                    int n = samples.counts.getOrDefault(call, 0);
+                    if (n > 0) {
+                        System.arraycopy(samples.latencies.get(call), 0, all, offset, n);
+                        offset += n;
+                    }
+                }
+                Arrays.sort(all);
+                endpoints.add(new EndpointReport(call.endpoint(), count, clientErrors, serverErrors, count / seconds,
+                        percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), all[count - 1] / 1e6));
+                total += count;
+            }
+            return new LoadReport(profile, data.projectIds().length, data.taskIds().length, data.checklistItemIds().length,
+                    seconds, total / seconds, endpoints);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+        }
+
+        void print() {
+            System.out.printf("%n[carga] %d clientes, %d requisições em %.1f s (%.0f req/s)%n",
+                    profile.clients(), endpoints.stream().mapToInt(EndpointReport::requests).sum(), elapsedSeconds, throughput);
+            System.out.printf("  %-36s %7s %6s %6s %8s %8s %8s %8s %8s%n",
+                    "endpoint", "req", "4xx", "5xx", "req/s", "p50 ms", "p95 ms", "p99 ms", "máx ms");
+            for (EndpointReport e : endpoints) {
+                System.out.printf("  %-36s %7d %6d %6d %8.1f %8.1f %8.1f %8.1f %8.1f%n", e.endpoint(), e.requests(),
+                        e.clientErrors(), e.serverErrors(), e.throughput(), e.p50Millis(), e.p95Millis(), e.p99Millis(), e.maxMillis());
+            }
+            System.out.println("  relatório: " + REPORT.toAbsolutePath());
+        }
+    }
+}
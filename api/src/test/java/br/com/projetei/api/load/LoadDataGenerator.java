@@ -0,0 +1,166 @@
+package br.com.projetei.api.load;
+
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.ProjectStatsRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// Gera a massa de dados da carga pelos repositórios (como uma importação: cascade do projeto para
+// tarefas, itens e comentários, em JDBC batch). Os projetos são gravados em lotes, uma transação
+// por lote, para a memória não crescer com o tamanho da massa. Os agregados de /stats e dos resumos
+// (project_stats) saem das tarefas gravadas, na mesma transação de cada lote.
+//
+// Com load.reuse-existing-data=true nada é gerado: os IDs são lidos de uma massa já gravada
+// (útil com MySQL local, em que gerar 1M de tarefas leva minutos).
+class LoadDataGenerator {
+
+    private static final int TASKS_PER_TRANSACTION = 5_000;
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final ProjectRepository projectRepository;
+    private final ProjectStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadDataGenerator(ProjectRepository projectRepository, ProjectStatsRepository statsRepository,
+                      TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate) {
+        this.projectRepository = projectRepository;
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    SeededData prepare(LoadProfile profile) {
+        return profile.reuseExistingData() ? existing() : generate(profile);
+    }
+
+    private SeededData generate(LoadProfile profile) {
+        SplittableRandom random = new SplittableRandom(profile.seed());
+        // Prefixo por execução: gerar duas vezes no mesmo banco não colide nos códigos (únicos).
+        String codePrefix = Long.toString(36 * 36 + new SplittableRandom().nextInt(36 * 36 * 35), 36);
+
+        LongStream.Builder projectIds = LongStream.builder();
+        Stream.Builder<String> codes = Stream.builder();
+        LongStream.Builder taskIds = LongStream.builder();
+        LongStream.Builder itemIds = LongStream.builder();
+
+        long start = System.nanoTime();
+        List<Project> batch = new ArrayList<>();
+        int tasksInBatch = 0;
+        for (int p = 0; p < profile.projects(); p++) {
+            Project project = newProject(profile, random, codePrefix + String.format("%5s", Integer.toString(p, 36)).replace(' ', '0'));
+            batch.add(project);
+            tasksInBatch += project.getTasks().size();
+            if (tasksInBatch >= TASKS_PER_TRANSACTION || p == profile.projects() - 1) {
+                save(batch, projectIds, codes, taskIds, itemIds);
+                System.out.printf("[carga] massa: %d/%d projetos (%.0f s)%n",
+                        p + 1, profile.projects(), (System.nanoTime() - start) / 1e9);
+                batch = new ArrayList<>();
+                tasksInBatch = 0;
+            }
+        }
+        return new SeededData(projectIds.build().toArray(), codes.build().toArray(String[]::new),
+                taskIds.build().toArray(), itemIds.build().toArray());
+    }
+
+    private void save(List<Project> batch, LongStream.Builder projectIds, Stream.Builder<String> codes,
+                      LongStream.Builder taskIds, LongStream.Builder itemIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            projectRepository.saveAllAndFlush(batch);
+            List<Long> ids = batch.stream().map(Project::getId).toList();
+            statsRepository.insertFromTasks(ids);
+            statsRepository.insertOpenDueDatesFromTasks(ids);
+        });
+        for (Project project : batch) {
+            projectIds.add(project.getId());
+            codes.add(project.getCode());
+            for (Task task : project.getTasks()) {
+                taskIds.add(task.getId());
+                task.getChecklist().forEach(item -> itemIds.add(item.getId()));
+            }
+        }
+    }
+
+    private static Project newProject(LoadProfile profile, SplittableRandom random, String code) {
+        Project project = new Project();
+        project.setName("Projeto " + code);
+        project.setCode(code);
+        project.setDescription("Projeto gerado para teste de carga.");
+        project.setDueDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)));
+        int tasks = profile.tasksPerProject().draw(random);
+        project.setTasks(new ArrayList<>(tasks));
+        for (int t = 0; t < tasks; t++) {
+            project.getTasks().add(newTask(profile, random, project, t));
+        }
+        return project;
+    }
+
+    private static Task newTask(LoadProfile profile, SplittableRandom random, Project project, int index) {
+        Task task = new Task();
+        task.setProject(project);
+        task.setTitle("Tarefa " + index);
+        task.setDescription(random.nextInt(3) == 0 ? null : "Descrição da tarefa " + index + " com os critérios de aceite.");
+        task.setDueDate(random.nextBoolean() ? null : LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)));
+        task.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+
+        int items = profile.checklistItemsPerTask().draw(random);
+        int checked = 0;
+        task.setChecklist(new ArrayList<>(items));
+        for (int i = 0; i < items; i++) {
+            ChecklistItem item = new ChecklistItem();
+            item.setText("Item " + i);
+            item.setChecked(random.nextDouble() < profile.checkedRatio());
+            item.setTask(task);
+            task.getChecklist().add(item);
+            if (item.isChecked()) checked++;
+        }
+        task.setChecklistTotal(items);
+        task.setChecklistChecked(checked);
+        // Mesmo status que o serviço derivaria dos contadores; sem checklist, qualquer um.
+        task.setStatus(items == 0 ? STATUSES[random.nextInt(STATUSES.length)]
+                : checked == 0 ? TaskStatus.TODO : checked == items ? TaskStatus.DONE : TaskStatus.DOING);
+
+        int comments = profile.commentsPerTask().draw(random);
+        task.setComments(new ArrayList<>(comments));
+        for (int c = 0; c < comments; c++) {
+            Comment comment = new Comment();
+            comment.setText("Comentário " + c + " da tarefa " + index);
+            comment.setAuthorName("Autor " + random.nextInt(20));
+            comment.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(random.nextInt(500_000)));
+            comment.setTask(task);
+            task.getComments().add(comment);
+        }
+        return task;
+    }
+
+    private SeededData existing() {
+        long[] projectIds = jdbcTemplate.queryForList("select id from projects order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        String[] codes = jdbcTemplate.queryForList("select code from projects order by id", String.class)
+                .toArray(String[]::new);
+        LongStream.Builder taskIds = LongStream.builder();
+        jdbcTemplate.query("select id from tasks", rs -> { taskIds.add(rs.getLong(1)); });
+        LongStream.Builder itemIds = LongStream.builder();
+        jdbcTemplate.query("select id from checklist_items", rs -> { itemIds.add(rs.getLong(1)); });
+        SeededData data = new SeededData(projectIds, codes, taskIds.build().toArray(), itemIds.build().toArray());
+        if (data.projectIds().length == 0 || data.taskIds().length == 0 || data.checklistItemIds().length == 0) {
+            throw new IllegalStateException("load.reuse-existing-data=true, mas o banco não tem projetos, tarefas e itens de checklist");
+        }
+        return data;
+    }
+}
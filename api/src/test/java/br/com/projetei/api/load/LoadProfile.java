@@ -0,0 +1,77 @@
+package br.com.projetei.api.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Parâmetros da carga, lidos de propriedades de sistema (-Dload.projects=10000 ...). Os padrões
+// geram uma massa pequena, que roda em cerca de um minuto no H2; para o cenário grande, por exemplo:
+//   mvn -Pload-tests test -Dtest=ApiLoadTests -Dload.projects=10000 -Dload.tasks-per-project=50-150
+// Faixas ("min-max") são sorteadas uniformemente com a semente fixa, então a mesma configuração
+// sempre gera a mesma massa e a mesma sequência de chamadas por cliente.
+record LoadProfile(
+        long seed,
+        int projects,
+        Range tasksPerProject,
+        Range checklistItemsPerTask,
+        Range commentsPerTask,
+        double checkedRatio,
+        boolean reuseExistingData,
+        int clients,
+        int warmupRequests,
+        int requests,
+        Map<ApiCall, Integer> mix) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Long.getLong("load.seed", 42),
+                Integer.getInteger("load.projects", 200),
+                Range.parse(System.getProperty("load.tasks-per-project", "5-60")),
+                Range.parse(System.getProperty("load.checklist-items-per-task", "0-8")),
+                Range.parse(System.getProperty("load.comments-per-task", "0-4")),
+                Double.parseDouble(System.getProperty("load.checked-ratio", "0.4")),
+                Boolean.getBoolean("load.reuse-existing-data"),
+                Integer.getInteger("load.clients", 32),
+                Integer.getInteger("load.warmup-requests", 500),
+                Integer.getInteger("load.requests", 5000),
+                parseMix(System.getProperty("load.mix", "")));
+    }
+
+    // "board=30,task=20,..." sobrescreve só os pesos informados (nomes em ApiCall.key()).
+    private static Map<ApiCall, Integer> parseMix(String value) {
+        Map<ApiCall, Integer> mix = new EnumMap<>(ApiCall.class);
+        for (ApiCall call : ApiCall.values()) {
+            mix.put(call, call.defaultWeight());
+        }
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split("=");
+            mix.put(ApiCall.byKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    record Range(int min, int max) {
+
+        static Range parse(String value) {
+            String[] parts = value.trim().split("-");
+            int min = Integer.parseInt(parts[0].trim());
+            int max = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : min;
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Faixa inválida: " + value);
+            }
+            return new Range(min, max);
+        }
+
+        int draw(SplittableRandom random) {
+            return min == max ? min : random.nextInt(min, max + 1);
+        }
+
+        @Override
+        public String toString() {
+            return min == max ? Integer.toString(min) : min + "-" + max;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.projetei.api.load;
+
+// Modo padrão: pool de threads do Tomcat (200), com o mesmo pool de conexões do outro modo (ver ThreadModeLoadTest).
+class PlatformThreadLoadTests extends ThreadModeLoadTest {
+
+    static final String MODE = "threads de plataforma";
+
+    @Override
+    String mode() {
+        return MODE;
+    }
+}
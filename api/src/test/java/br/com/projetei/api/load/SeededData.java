@@ -0,0 +1,23 @@
+package br.com.projetei.api.load;
+
+import java.util.SplittableRandom;
+
+// IDs da massa de dados (em arrays primitivos: com 1M de tarefas, listas de Long pesariam demais).
+record SeededData(long[] projectIds, String[] projectCodes, long[] taskIds, long[] checklistItemIds) {
+
+    long randomProjectId(SplittableRandom random) {
+        return projectIds[random.nextInt(projectIds.length)];
+    }
+
+    String randomProjectCode(SplittableRandom random) {
+        return projectCodes[random.nextInt(projectCodes.length)];
+    }
+
+    long randomTaskId(SplittableRandom random) {
+        return taskIds[random.nextInt(taskIds.length)];
+    }
+
+    long randomChecklistItemId(SplittableRandom random) {
+        return checklistItemIds[random.nextInt(checklistItemIds.length)];
+    }
+}
@@ -0,0 +1,207 @@
+package br.com.projetei.api.load;
+
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.service.BulkTaskService;
+import br.com.projetei.api.service.ProjectService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Carga de leituras (GET /api/tasks/{id}) com mais clientes simultâneos do que threads no Tomcat (200),
+// e cada statement JDBC atrasado de propósito para simular as idas e voltas a um MySQL remoto.
+// Cada subclasse sobe a aplicação num modo de execução (threads de plataforma ou virtual threads) e
+// mede vazão e latências; quando os dois modos rodam na mesma JVM (JDK 21+), o último a terminar
+// imprime a comparação lado a lado. Os dois modos usam o mesmo pool do Hikari (o do perfil
+// virtual-threads, com o timeout padrão do Hikari), para que a diferença medida seja só a do modelo
+// de threads. O resultado é relatado, não conferido: a vantagem depende da máquina e da latência simulada.
+//
+// Fora do "mvn test" comum: mvn -Pload-tests test (ou -Pload-tests,virtual-threads num JDK 21+).
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + ThreadModeLoadTest.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=10",
+        "spring.datasource.hikari.connection-timeout=30000"
+})
+@Import(ThreadModeLoadTest.SlowDatabase.class)
+@DirtiesContext
+abstract class ThreadModeLoadTest {
+
+    static final int CLIENTS = 300;
+    static final int WARMUP_REQUESTS = 600;
+    static final int REQUESTS = 6000;
+    static final int TASKS = 200;
+    static final long STATEMENT_LATENCY_MILLIS = 2;
+    static final int POOL_SIZE = 40;
+
+    private static final Map<String, LoadResult> RESULTS = new LinkedHashMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    abstract String mode();
+
+    @Test
+    void servesConcurrentTaskReads() throws Exception {
+        List<Long> taskIds = seedTasks();
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        run(http, taskIds, WARMUP_REQUESTS);
+        LoadResult result = run(http, taskIds, REQUESTS);
+
+        synchronized (RESULTS) {
+            RESULTS.put(mode(), result);
+        }
+        assertThat(result.errors()).isZero();
+    }
+
+    @AfterAll
+    static void compareModes() {
+        synchronized (RESULTS) {
+            System.out.printf("%n[carga] %d clientes, %d requisições, +%d ms por statement, pool de %d conexões%n",
+                    CLIENTS, REQUESTS, STATEMENT_LATENCY_MILLIS, POOL_SIZE);
+            RESULTS.forEach((mode, result) -> System.out.printf("  %-22s %7.0f req/s   p50 %6.1f ms   p99 %7.1f ms%n",
+                    mode, result.throughput(), result.p50Millis(), result.p99Millis()));
+            LoadResult platform = RESULTS.get(PlatformThreadLoadTests.MODE);
+            LoadResult virtual = RESULTS.get(VirtualThreadLoadTests.MODE);
+            if (platform != null && virtual != null) {
+                System.out.printf("  virtual/plataforma: vazão %.2fx   p99 %.2fx%n",
+                        virtual.throughput() / platform.throughput(), virtual.p99Millis() / platform.p99Millis());
+            }
+        }
+    }
+
+    private LoadResult run(HttpClient http, List<Long> taskIds, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                running.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/tasks/" + taskIds.get(i % taskIds.size()))).build();
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new LoadResult(requests / (elapsed / 1e9), percentile(latencies, 0.50), percentile(latencies, 0.99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+    }
+
+    private List<Long> seedTasks() {
+        Project project = new Project();
+        project.setName("Carga");
+        project = projectService.createProject(project);
+        List<BulkTaskOperationDTO> operations = IntStream.range(0, TASKS)
+                .mapToObj(i -> new BulkTaskOperationDTO(BulkOperationType.CREATE, null, "Tarefa " + i, null, null, null, null,
+                        List.of("a", "b", "c")))
+                .toList();
+        return bulkTaskService.applyTaskOperations(project.getId(), operations).results().stream()
+                .map(r -> r.id())
+                .toList();
+    }
+
+    record LoadResult(double throughput, double p50Millis, double p99Millis, int errors) {}
+
+    // Atrasa cada execução de statement, como se o banco estivesse do outro lado da rede.
+    // A conexão do pool fica ocupada durante a espera, exatamente como com um MySQL lento.
+    @TestConfiguration
+    static class SlowDatabase {
+
+        @Bean
+        static BeanPostProcessor slowDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return (Connection) slow(Connection.class, super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Object slow(Class<?> type, Object target) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    Thread.sleep(STATEMENT_LATENCY_MILLIS);
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        return slow(method.getReturnType(), result);
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+    }
+}
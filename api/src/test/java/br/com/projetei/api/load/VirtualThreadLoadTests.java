@@ -0,0 +1,19 @@
+package br.com.projetei.api.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+// Perfil "virtual-threads": requisições em virtual threads (o pool de conexões é o mesmo do outro modo).
+// Só roda em JDK 21+ (em versões anteriores o Spring ignoraria spring.threads.virtual.enabled).
+@ActiveProfiles("virtual-threads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTests extends ThreadModeLoadTest {
+
+    static final String MODE = "virtual threads";
+
+    @Override
+    String mode() {
+        return MODE;
+    }
+}
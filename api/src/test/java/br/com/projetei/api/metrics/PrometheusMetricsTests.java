@@ -0,0 +1,66 @@
+package br.com.projetei.api.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// O application.properties dos testes substitui o principal: as propriedades de métricas vêm daqui.
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles-histogram.hikaricp.connections.acquire=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void scrapeEndpointExposesRequestPoolHibernateAndDomainMetrics() throws Exception {
+        long projectId = idOf(post("/api/projects"), "{\"name\":\"Métricas\"}");
+        long taskId = idOf(post("/api/projects/" + projectId + "/tasks"), "{\"title\":\"Medir\"}");
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/status")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects/" + projectId)).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("projetei_http_sql_statements_count\\{[^}]*uri=\"/api/projects/\\{projectId}\"")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hibernate_query_executions_total{")
+                .containsPattern("projetei_l2_cache_evictions_total\\{[^}]*cache=\"projects\"")
+                .containsPattern("projetei_tasks_creations_total(\\{[^}]*})? 1\\.0")
+                .containsPattern("projetei_tasks_status_transitions_total\\{[^}]*from=\"TODO\"[^}]*source=\"manual\"[^}]*to=\"DONE\"[^}]*} 1\\.0");
+    }
+
+    private long idOf(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String json = mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode node = objectMapper.readTree(json);
+        return node.get("id").asLong();
+    }
+}
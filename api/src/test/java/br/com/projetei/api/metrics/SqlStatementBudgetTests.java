@@ -0,0 +1,74 @@
+package br.com.projetei.api.metrics;
+
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.service.ProjectService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Orçamento de 1 instrução: qualquer leitura do projeto passa dele e conta como estouro, mas os lotes
+// (@SqlStatementBudget(UNLIMITED)) só entram no histograma, por mais instruções que façam.
+@SpringBootTest(properties = "projetei.sql.statement-budget=1")
+@AutoConfigureMockMvc
+class SqlStatementBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void bulkEndpointsAreExemptWhileOtherEndpointsStillCount() throws Exception {
+        Long projectId = createProject();
+
+        double before = exceeded();
+        List<BulkTaskOperationDTO> operations = IntStream.range(0, 30)
+                .mapToObj(i -> new BulkTaskOperationDTO(BulkOperationType.CREATE, null, "Lote " + i, null, null, null, null,
+                        List.of("a", "b")))
+                .toList();
+        MvcResult bulk = mockMvc.perform(post("/api/projects/" + projectId + "/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(SqlStatements.of(bulk)).isGreaterThan(1);
+        assertThat(exceeded()).isEqualTo(before);
+
+        MvcResult read = mockMvc.perform(get("/api/projects/" + projectId)).andExpect(status().isOk()).andReturn();
+        assertThat(SqlStatements.of(read)).isGreaterThan(1);
+        assertThat(exceeded()).isEqualTo(before + 1);
+    }
+
+    private double exceeded() {
+        return meterRegistry.counter("projetei.http.sql.budget.exceeded").count();
+    }
+
+    private Long createProject() {
+        Project project = new Project();
+        project.setName("Orçamento");
+        project.setTasks(new ArrayList<>());
+        return projectService.createProject(project).getId();
+    }
+}
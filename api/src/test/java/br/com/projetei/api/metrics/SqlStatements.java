@@ -0,0 +1,38 @@
+package br.com.projetei.api.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Orçamento de SQL nos testes. Com MockMvc, o cabeçalho X-SQL-Statements (ligado no
+// application.properties dos testes) traz o total da requisição, serialização incluída:
+//   mockMvc.perform(get("/api/projects/" + id)).andExpect(SqlStatements.atMost(4));
+// Fora do MockMvc (serviços, repositórios), during() conta o que o trecho executou na thread atual.
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher atMost(int max) {
+        return result -> assertThat(countOf(result.getResponse().getHeader(SqlStatementBudgetFilter.COUNT_HEADER)))
+                .as("instruções SQL em %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    public static int of(MvcResult result) {
+        return countOf(result.getResponse().getHeader(SqlStatementBudgetFilter.COUNT_HEADER));
+    }
+
+    public static int during(SqlStatementCounter counter, Runnable action) {
+        counter.reset();
+        action.run();
+        return counter.count();
+    }
+
+    private static int countOf(String header) {
+        assertThat(header).as("cabeçalho %s (projetei.sql.expose-count-header=true?)", SqlStatementBudgetFilter.COUNT_HEADER)
+                .isNotNull();
+        return Integer.parseInt(header);
+    }
+}
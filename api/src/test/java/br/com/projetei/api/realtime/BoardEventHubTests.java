@@ -0,0 +1,219 @@
+package br.com.projetei.api.realtime;
+
+import br.com.projetei.api.dto.BoardEventDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.enums.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// O hub sem o Spring: os emitters gravam o que seria enviado (e podem travar o envio, como um
+// cliente lento), e as transações são de verdade (H2), para conferir o envio só depois do commit.
+class BoardEventHubTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(150);
+    private static final String CODE = "quadro01";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingHub> hubs = new ArrayList<>();
+
+    @AfterEach
+    void shutdownHubs() {
+        hubs.forEach(BoardEventHub::shutdown);
+    }
+
+    @Test
+    void burstWithinTheWindowBecomesOneBatchWithTheLastStateOfEachEntity() throws Exception {
+        RecordingHub hub = hub(32);
+        RecordingEmitter client = hub.subscribeRecording(true);
+        assertThat(client.next("ready").get("revision").asLong()).isEqualTo(1);
+
+        hub.publish(project(), 2, taskStatus(10L, TaskStatus.DOING));
+        hub.publish(project(), 3, checklistItem(10L, 100L, true));
+        hub.publish(project(), 4, taskStatus(10L, TaskStatus.DONE));
+
+        JsonNode batch = client.next("board");
+        assertThat(batch.get("revision").asLong()).isEqualTo(4);
+        assertThat(batch.get("events")).hasSize(2);
+        assertThat(batch.get("events").get(0).get("type").asText()).isEqualTo("CHECKLIST_ITEM");
+        assertThat(batch.get("events").get(1).get("status").asText()).isEqualTo("DONE");
+        client.assertNothingWithin(WINDOW.multipliedBy(3));
+    }
+
+    @Test
+    void subscriberThatFallsBehindIsDroppedWithoutHoldingTheOthers() throws Exception {
+        RecordingHub hub = hub(2);
+        RecordingEmitter slow = hub.subscribeRecording(false);
+        RecordingEmitter fast = hub.subscribeRecording(true);
+        fast.next("ready");
+
+        // O lento fica preso no envio do "ready"; cada lote seguinte entra na fila dele (limite 2).
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int revision = 2; revision <= 4; revision++) {
+            hub.publish(project(), revision, taskStatus(10L, TaskStatus.DOING));
+            assertThat(fast.next("board").get("revision").asLong()).isEqualTo(revision);
+        }
+
+        // O lote pode chegar ao rápido antes de ser oferecido ao lento: a queda vem logo depois.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("projetei.realtime.dropped").count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.counter("projetei.realtime.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("projetei.realtime.subscribers").gauge().value()).isEqualTo(1);
+        slow.release();
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.names()).containsExactly("ready");
+    }
+
+    @Test
+    void eventsLeaveOnlyAfterCommitAndNeverAfterRollback() throws Exception {
+        RecordingHub hub = hub(32);
+        RecordingEmitter client = hub.subscribeRecording(true);
+        client.next("ready");
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(new DriverManagerDataSource(
+                "jdbc:h2:mem:hub-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "root", "")));
+
+        transaction.executeWithoutResult(status -> {
+            hub.publish(project(), 2, taskStatus(10L, TaskStatus.DOING));
+            client.assertNothingWithin(WINDOW.multipliedBy(3));
+        });
+        assertThat(client.next("board").get("revision").asLong()).isEqualTo(2);
+
+        transaction.executeWithoutResult(status -> {
+            hub.publish(project(), 3, taskStatus(10L, TaskStatus.DONE));
+            status.setRollbackOnly();
+        });
+        client.assertNothingWithin(WINDOW.multipliedBy(3));
+    }
+
+    private RecordingHub hub(int maxQueuedEvents) {
+        RecordingHub hub = new RecordingHub(meterRegistry, maxQueuedEvents);
+        hubs.add(hub);
+        return hub;
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setCode(CODE);
+        return project;
+    }
+
+    private static BoardEventDTO taskStatus(Long taskId, TaskStatus status) {
+        return new BoardEventDTO(BoardEventDTO.Type.TASK_STATUS, taskId, status, null, null, null);
+    }
+
+    private static BoardEventDTO checklistItem(Long taskId, Long itemId, boolean checked) {
+        return new BoardEventDTO(BoardEventDTO.Type.CHECKLIST_ITEM, taskId, null, itemId, checked, null);
+    }
+
+    private static final class RecordingHub extends BoardEventHub {
+
+        private final Deque<RecordingEmitter> prepared = new ArrayDeque<>();
+
+        RecordingHub(SimpleMeterRegistry meterRegistry, int maxQueuedEvents) {
+            super(OBJECT_MAPPER, meterRegistry, WINDOW, Duration.ofHours(1), Duration.ofMinutes(5), maxQueuedEvents, 2);
+        }
+
+        // "flowing" = false: o envio fica travado até release(), como um cliente que não lê.
+        RecordingEmitter subscribeRecording(boolean flowing) {
+            RecordingEmitter emitter = new RecordingEmitter(flowing);
+            prepared.push(emitter);
+            subscribe(CODE, 1);
+            return emitter;
+        }
+
+        @Override
+        SseEmitter newEmitter() {
+            return prepared.pop();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final List<String> names = new ArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(boolean flowing) {
+            this.gate = new CountDownLatch(flowing ? 0 : 1);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            synchronized (names) {
+                names.add(field(text.toString(), "event:"));
+            }
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        List<String> names() {
+            synchronized (names) {
+                return List.copyOf(names);
+            }
+        }
+
+        JsonNode next(String expectedName) throws Exception {
+            String text = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(text).as("evento '%s'", expectedName).isNotNull();
+            assertThat(field(text, "event:")).isEqualTo(expectedName);
+            return OBJECT_MAPPER.readTree(field(text, "data:"));
+        }
+
+        void assertNothingWithin(Duration duration) {
+            try {
+                assertThat(sent.poll(duration.toMillis(), TimeUnit.MILLISECONDS)).isNull();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static String field(String text, String prefix) {
+            return text.lines().filter(line -> line.startsWith(prefix)).findFirst()
+                    .map(line -> line.substring(prefix.length())).orElse(null);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.projetei.api.repository;
+
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.service.ProjectService;
+import br.com.projetei.api.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Pool principal com 2 conexões e 4 clientes criando tarefas no mesmo projeto: quem tem o lock da
+// linha do projeto segura uma conexão, e a outra fica com quem espera esse lock. Quando o bloco de
+// IDs acaba no meio disso, a reserva não pode depender de uma terceira conexão do pool principal
+// (com o @TableGenerator, o teste terminava em timeout do Hikari).
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=10000"
+})
+class IdBlockGeneratorTests {
+
+    private static final int CLIENTS = 4;
+    private static final int TASKS_PER_CLIENT = 40;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void reservesIdBlocksWhileWritersHoldTheWholePool() throws Exception {
+        Project project = new Project();
+        project.setName("IDs");
+        Long projectId = projectService.createProject(project).getId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Long> ids = new ArrayList<>();
+        try {
+            List<Future<List<Long>>> running = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                int client = i;
+                running.add(clients.submit(() -> {
+                    start.await();
+                    List<Long> created = new ArrayList<>();
+                    for (int t = 0; t < TASKS_PER_CLIENT; t++) {
+                        Task task = new Task();
+                        task.setTitle("Tarefa " + client + "-" + t);
+                        created.add(taskService.createTask(projectId, task).getId());
+                    }
+                    return created;
+                }));
+            }
+            start.countDown();
+            for (Future<List<Long>> client : running) {
+                ids.addAll(client.get(2, TimeUnit.MINUTES));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        Set<Long> distinct = new HashSet<>(ids);
+        assertThat(distinct).hasSize(CLIENTS * TASKS_PER_CLIENT);
+        assertThat(taskService.findAllByProjectId(projectId)).hasSize(CLIENTS * TASKS_PER_CLIENT);
+    }
+}
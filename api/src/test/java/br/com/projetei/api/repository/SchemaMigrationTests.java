@@ -0,0 +1,79 @@
+package br.com.projetei.api.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// O esquema dos testes vem das mesmas migrações da aplicação (e o contexto só sobe se o Hibernate
+// validar as entidades contra ele). Aqui: os índices compostos existem e o banco os escolhe, e um banco
+// antigo, criado pelo ddl-auto com o esquema da V1 e com dados, chega à versão atual pelas migrações.
+@SpringBootTest
+class SchemaMigrationTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsCreateTheCompositeIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name in ('tasks', 'comments')", String.class);
+
+        assertThat(indexes).contains("idx_tasks_project_status", "idx_tasks_project_due_date", "idx_comments_task_created_at");
+    }
+
+    @Test
+    void boardAndCommentQueriesUseTheCompositeIndexes() {
+        assertThat(plan("select id from tasks where project_id = 1 and status = 'DONE'")).contains("idx_tasks_project_status");
+        assertThat(plan("select id from tasks where project_id = 1 and due_date < current_date")).contains("idx_tasks_project_due_date");
+        assertThat(plan("select id from comments where task_id = 1 order by created_at")).contains("idx_comments_task_created_at");
+    }
+
+    @Test
+    void existingBaselineDatabaseIsMigratedKeepingItsData() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "root", "");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+        }
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        legacy.update("insert into projects (name, code) values ('Antigo', 'ANTIGO')");
+        legacy.update("insert into tasks (project_id, title, status, priority) values (1, 'Feita', 'DONE', 'HIGH')");
+        legacy.update("insert into tasks (project_id, title, status) values (1, 'Aberta', 'TODO')");
+        legacy.update("insert into checklist_items (task_id, text, is_checked) values (1, 'a', true)");
+        legacy.update("insert into checklist_items (task_id, text, is_checked) values (1, 'b', false)");
+        legacy.update("insert into comments (task_id, text, author_name) values (2, 'oi', 'Ana')");
+
+        // Como na aplicação: o banco sem histórico é registrado na V1 e recebe só as seguintes.
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        Map<String, Object> task = legacy.queryForMap("select version, checklist_total, checklist_checked from tasks where id = 1");
+        assertThat(task).containsEntry("version", 0L).containsEntry("checklist_total", 2).containsEntry("checklist_checked", 1);
+        assertThat(legacy.queryForObject("select revision from projects where id = 1", Long.class)).isZero();
+        assertThat(legacy.queryForMap("select tasks_todo, tasks_done, priority_high, checklist_total from project_stats where project_id = 1"))
+                .containsEntry("tasks_todo", 1L).containsEntry("tasks_done", 1L)
+                .containsEntry("priority_high", 1L).containsEntry("checklist_total", 2L);
+        assertThat(legacy.queryForObject("select next_val from id_generators where entity_name = 'tasks'", Long.class)).isEqualTo(2 + 51);
+        assertThat(legacy.queryForObject("select next_val from id_generators where entity_name = 'change_log'", Long.class)).isZero();
+
+        // Sem auto_increment, os IDs vêm da aplicação (blocos da id_generators), com as chaves estrangeiras intactas.
+        legacy.update("insert into tasks (id, project_id, title, status) values (100, 1, 'Nova', 'TODO')");
+        assertThat(legacy.queryForObject("select count(*) from tasks where project_id = 1", Integer.class)).isEqualTo(3);
+        assertThat(Flyway.configure().dataSource(dataSource).load().info().pending()).isEmpty();
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+    }
+}
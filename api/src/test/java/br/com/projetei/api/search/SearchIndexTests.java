@@ -0,0 +1,184 @@
+package br.com.projetei.api.search;
+
+import br.com.projetei.api.dto.CommentDTO;
+import br.com.projetei.api.dto.CreateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateTaskDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.ChangeEntityType;
+import br.com.projetei.api.service.CommentService;
+import br.com.projetei.api.service.ProjectService;
+import br.com.projetei.api.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// O índice acompanha as alterações feitas pelos serviços e a reconstrução completa chega ao mesmo resultado.
+// Cada teste usa uma palavra própria, para não enxergar os dados dos outros.
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchIndexTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Test
+    void findsTasksChecklistItemsAndCommentsRankedByRelevance() throws Exception {
+        String word = uniqueWord();
+        Project project = createProject();
+        Task inTitle = createTask(project, "Corrigir " + word + " da fatura", null);
+        Task other = createTask(project, "Revisar layout", "Sem relação");
+        Long itemId = addChecklistItem(other, "Conferir " + word);
+        Long commentId = addComment(other, "Esse comentário cita " + word + " de passagem, junto com muitas outras palavras do dia a dia");
+
+        List<JsonNode> hits = search(word, null);
+
+        assertThat(hits).hasSize(3);
+        assertThat(hits.get(0).get("type").asText()).isEqualTo("TASK");
+        assertThat(hits.get(0).get("id").asLong()).isEqualTo(inTitle.getId());
+        assertThat(hits).extracting(hit -> hit.get("type").asText() + ":" + hit.get("id").asLong())
+                .contains("CHECKLIST_ITEM:" + itemId, "COMMENT:" + commentId);
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.get("projectId").asLong()).isEqualTo(project.getId()));
+    }
+
+    @Test
+    void ignoresAccentsAndCaseAndFiltersByProject() throws Exception {
+        String word = uniqueWord();
+        Project first = createProject();
+        Project second = createProject();
+        createTask(first, "Relatório " + word, null);
+        createTask(second, "Relatorio " + word.toUpperCase(), null);
+
+        assertThat(search("relatorio " + word, null)).hasSize(2);
+        assertThat(search("RELATÓRIO " + word, second.getId()))
+                .singleElement().satisfies(hit -> assertThat(hit.get("projectId").asLong()).isEqualTo(second.getId()));
+    }
+
+    @Test
+    void followsUpdatesAndDeletions() throws Exception {
+        String word = uniqueWord();
+        String replacement = uniqueWord();
+        Project project = createProject();
+        Task task = createTask(project, "Tarefa " + word, null);
+        addComment(task, "Comentário sobre " + word);
+        addChecklistItem(task, "Item " + word);
+        assertThat(search(word, null)).hasSize(3);
+
+        taskService.updateTask(task.getId(), update("Tarefa " + replacement));
+        assertThat(search(word, null)).hasSize(2);
+        assertThat(search(replacement, null)).singleElement()
+                .satisfies(hit -> assertThat(hit.get("type").asText()).isEqualTo(ChangeEntityType.TASK.name()));
+
+        taskService.deleteTask(task.getId());
+        assertThat(search(word, null)).isEmpty();
+        assertThat(search(replacement, null)).isEmpty();
+    }
+
+    @Test
+    void pagesFollowTheCursorAndRebuildMatchesIncrementalUpdates() throws Exception {
+        String word = uniqueWord();
+        Project project = createProject();
+        for (int i = 0; i < 5; i++) {
+            addComment(createTask(project, "Tarefa " + i, null), word + " " + i);
+        }
+
+        List<String> incremental = allPages(word);
+        assertThat(incremental).hasSize(5).doesNotHaveDuplicates();
+
+        searchIndexer.rebuild();
+        assertThat(allPages(word)).containsExactlyInAnyOrderElementsOf(incremental);
+    }
+
+    @Test
+    void rejectsBlankQueriesAndInvalidCursors() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", " ")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/search").param("q", "x").param("after", "abc")).andExpect(status().isBadRequest());
+    }
+
+    private List<String> allPages(String query) throws Exception {
+        List<String> keys = new ArrayList<>();
+        String cursor = null;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/search").param("q", query).param("limit", "2")
+                            .param("after", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk()).andReturn();
+            objectMapper.readTree(result.getResponse().getContentAsString())
+                    .forEach(hit -> keys.add(hit.get("type").asText() + ":" + hit.get("id").asLong()));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+        } while (cursor != null);
+        return keys;
+    }
+
+    private List<JsonNode> search(String query, Long projectId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/search").param("q", query)
+                        .param("project", projectId == null ? "" : projectId.toString()))
+                .andExpect(status().isOk()).andReturn();
+        List<JsonNode> hits = new ArrayList<>();
+        objectMapper.readTree(result.getResponse().getContentAsString()).forEach(hits::add);
+        return hits;
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setName("Busca");
+        return projectService.createProject(project);
+    }
+
+    private Task createTask(Project project, String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        return taskService.createTask(project.getId(), task);
+    }
+
+    private Long addChecklistItem(Task task, String text) {
+        CreateChecklistItemDTO dto = new CreateChecklistItemDTO();
+        dto.setText(text);
+        return taskService.addChecklistItemToTask(task.getId(), dto).getId();
+    }
+
+    private Long addComment(Task task, String text) {
+        CommentDTO dto = new CommentDTO();
+        dto.setText(text);
+        dto.setAuthorName("Tester");
+        return commentService.addCommentToTask(task.getId(), dto).getId();
+    }
+
+    private static UpdateTaskDTO update(String title) {
+        UpdateTaskDTO dto = new UpdateTaskDTO();
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private static String uniqueWord() {
+        return "w" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
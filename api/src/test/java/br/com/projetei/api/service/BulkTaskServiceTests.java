@@ -0,0 +1,136 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.BulkChecklistItemOperationDTO;
+import br.com.projetei.api.dto.BulkOperationResultDTO.Status;
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkResultDTO;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.dto.CommentDTO;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BulkTaskServiceTests {
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ChecklistItemRepository checklistItemRepository;
+
+    @Test
+    void importsLargeBacklogInOneRequest() {
+        Project project = newProject();
+        List<BulkTaskOperationDTO> operations = IntStream.range(0, 2000)
+                .mapToObj(i -> create("Tarefa " + i, List.of("a", "b", "c")))
+                .toList();
+
+        long start = System.nanoTime();
+        BulkResultDTO result = bulkTaskService.applyTaskOperations(project.getId(), operations);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%n[benchmark] importação de 2000 tarefas (3 itens cada) em lote: %d ms%n", elapsedMillis);
+
+        assertThat(result.applied()).isEqualTo(2000);
+        assertThat(result.failed()).isZero();
+        assertThat(result.results()).allSatisfy(r -> assertThat(r.id()).isNotNull());
+        assertThat(taskRepository.findByProjectId(project.getId())).hasSize(2000);
+        assertThat(elapsedMillis).isLessThan(15_000);
+    }
+
+    @Test
+    void appliesMixedTaskOperationsAndReportsEachResult() {
+        Project project = newProject();
+        Project other = newProject();
+        Task kept = taskService.createTask(project.getId(), newTask("Mantida"));
+        Task removed = taskService.createTask(project.getId(), newTask("Removida"));
+        Task foreign = taskService.createTask(other.getId(), newTask("De outro projeto"));
+        CommentDTO comment = new CommentDTO();
+        comment.setText("comentário");
+        comment.setAuthorName("Ana");
+        commentService.addCommentToTask(removed.getId(), comment);
+
+        List<BulkTaskOperationDTO> operations = new ArrayList<>();
+        operations.add(new BulkTaskOperationDTO(BulkOperationType.UPDATE, kept.getId(), "Renomeada", null, null, TaskPriority.HIGH, null, null));
+        operations.add(new BulkTaskOperationDTO(BulkOperationType.STATUS, kept.getId(), null, null, null, null, TaskStatus.DOING, null));
+        operations.add(new BulkTaskOperationDTO(BulkOperationType.DELETE, removed.getId(), null, null, null, null, null, null));
+        operations.add(new BulkTaskOperationDTO(BulkOperationType.STATUS, removed.getId(), null, null, null, null, TaskStatus.DONE, null));
+        operations.add(new BulkTaskOperationDTO(BulkOperationType.DELETE, foreign.getId(), null, null, null, null, null, null));
+        operations.add(create(" ", null));
+
+        BulkResultDTO result = bulkTaskService.applyTaskOperations(project.getId(), operations);
+
+        assertThat(result.results()).extracting(r -> r.status())
+                .containsExactly(Status.OK, Status.OK, Status.OK, Status.NOT_FOUND, Status.NOT_FOUND, Status.INVALID);
+        Task reloaded = taskRepository.findById(kept.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Renomeada");
+        assertThat(reloaded.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.DOING);
+        assertThat(taskRepository.existsById(removed.getId())).isFalse();
+        assertThat(taskRepository.existsById(foreign.getId())).isTrue();
+    }
+
+    @Test
+    void appliesChecklistOperationsAndRecalculatesStatusOncePerTask() {
+        Project project = newProject();
+        BulkResultDTO created = bulkTaskService.applyTaskOperations(project.getId(),
+                List.of(create("Com checklist", List.of("um", "dois"))));
+        Long taskId = created.results().get(0).id();
+        List<Long> itemIds = checklistItemRepository.findAll().stream()
+                .filter(item -> item.getTask().getId().equals(taskId))
+                .map(item -> item.getId())
+                .toList();
+
+        BulkResultDTO result = bulkTaskService.applyChecklistItemOperations(project.getId(), List.of(
+                new BulkChecklistItemOperationDTO(BulkOperationType.UPDATE, itemIds.get(0), null, null, true),
+                new BulkChecklistItemOperationDTO(BulkOperationType.DELETE, itemIds.get(1), null, null, null),
+                new BulkChecklistItemOperationDTO(BulkOperationType.CREATE, null, taskId, "três", null),
+                new BulkChecklistItemOperationDTO(BulkOperationType.UPDATE, 999_999L, null, "x", null)));
+
+        assertThat(result.results()).extracting(r -> r.status())
+                .containsExactly(Status.OK, Status.OK, Status.OK, Status.NOT_FOUND);
+        Task task = taskService.findTaskById(taskId);
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.DOING);
+        assertThat(checklistItemRepository.existsById(itemIds.get(1))).isFalse();
+    }
+
+    private Project newProject() {
+        Project project = new Project();
+        project.setName("Lote");
+        return projectService.createProject(project);
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+
+    private static BulkTaskOperationDTO create(String title, List<String> checklist) {
+        return new BulkTaskOperationDTO(BulkOperationType.CREATE, null, title, null, null, null, null, checklist);
+    }
+}
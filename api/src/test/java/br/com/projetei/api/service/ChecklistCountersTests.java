@@ -0,0 +1,112 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.dto.CreateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateChecklistItemDTO;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ChecklistCountersTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private ChecklistItemRepository checklistItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void toggleCostDoesNotDependOnChecklistSize() {
+        List<Long> small = itemIdsOf(createTaskWithChecklist(5));
+        List<Long> large = itemIdsOf(createTaskWithChecklist(200));
+
+        long smallStatements = countStatements(() -> toggle(small.get(0), true));
+        long largeStatements = countStatements(() -> toggle(large.get(0), true));
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void countersAndStatusFollowChecklistChanges() {
+        Long taskId = createTaskWithChecklist(2);
+        List<Long> items = itemIdsOf(taskId);
+
+        toggle(items.get(0), true);
+        assertProgress(taskId, 2, 1, TaskStatus.DOING);
+
+        toggle(items.get(1), true);
+        assertProgress(taskId, 2, 2, TaskStatus.DONE);
+
+        CreateChecklistItemDTO newItem = new CreateChecklistItemDTO();
+        newItem.setText("mais um");
+        taskService.addChecklistItemToTask(taskId, newItem);
+        assertProgress(taskId, 3, 2, TaskStatus.DOING);
+
+        taskService.deleteChecklistItem(items.get(0));
+        assertProgress(taskId, 2, 1, TaskStatus.DOING);
+
+        toggle(items.get(1), false);
+        assertProgress(taskId, 2, 0, TaskStatus.TODO);
+    }
+
+    private void assertProgress(Long taskId, int total, int checked, TaskStatus status) {
+        Task task = taskService.findTaskById(taskId);
+        assertThat(task.getChecklistTotal()).isEqualTo(total);
+        assertThat(task.getChecklistChecked()).isEqualTo(checked);
+        assertThat(task.getStatus()).isEqualTo(status);
+    }
+
+    private void toggle(Long itemId, boolean checked) {
+        UpdateChecklistItemDTO dto = new UpdateChecklistItemDTO();
+        dto.setChecked(checked);
+        taskService.updateChecklistItem(itemId, dto);
+    }
+
+    private long countStatements(Runnable work) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createTaskWithChecklist(int items) {
+        Project project = new Project();
+        project.setName("Contadores");
+        project = projectService.createProject(project);
+        List<String> texts = IntStream.range(0, items).mapToObj(i -> "Item " + i).toList();
+        return bulkTaskService.applyTaskOperations(project.getId(), List.of(
+                new BulkTaskOperationDTO(BulkOperationType.CREATE, null, "Tarefa", null, null, null, null, texts)))
+                .results().get(0).id();
+    }
+
+    private List<Long> itemIdsOf(Long taskId) {
+        return checklistItemRepository.findAll().stream()
+                .filter(item -> item.getTask().getId().equals(taskId))
+                .map(ChecklistItem::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.BulkOperationType;
+import br.com.projetei.api.dto.BulkTaskOperationDTO;
+import br.com.projetei.api.dto.UpdateChecklistItemDTO;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ChecklistItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 64 clientes marcando e desmarcando itens do mesmo checklist ao mesmo tempo (vários disputando
+// o mesmo item). No fim, os contadores da tarefa têm que bater com os itens gravados e o status
+// tem que ser o derivado deles, por mais que algumas requisições tenham terminado em 409.
+@SpringBootTest
+class ConcurrentChecklistToggleTests {
+
+    private static final int TOGGLERS = 64;
+    private static final int TOGGLES_PER_CLIENT = 10;
+    private static final int ITEMS = 8;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private ChecklistItemRepository checklistItemRepository;
+
+    @Test
+    void statusStaysConsistentUnderParallelTogglers() throws Exception {
+        Long taskId = createTaskWithChecklist(ITEMS);
+        List<Long> itemIds = checklistItemRepository.findAll().stream()
+                .filter(item -> item.getTask().getId().equals(taskId))
+                .map(ChecklistItem::getId)
+                .toList();
+
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(TOGGLERS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < TOGGLERS; i++) {
+                running.add(clients.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int t = 0; t < TOGGLES_PER_CLIENT; t++) {
+                        UpdateChecklistItemDTO dto = new UpdateChecklistItemDTO();
+                        dto.setChecked(random.nextBoolean());
+                        try {
+                            taskService.updateChecklistItem(itemIds.get(random.nextInt(itemIds.size())), dto);
+                            applied.incrementAndGet();
+                        } catch (ConcurrentUpdateConflictException e) {
+                            conflicts.incrementAndGet();
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> client : running) {
+                client.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        System.out.printf("%n[stress] %d clientes x %d marcações: %d aplicadas, %d conflitos (409)%n",
+                TOGGLERS, TOGGLES_PER_CLIENT, applied.get(), conflicts.get());
+        assertThat(unexpected).isEmpty();
+        assertThat(applied.get()).isPositive();
+
+        List<ChecklistItem> items = checklistItemRepository.findAll().stream()
+                .filter(item -> item.getTask().getId().equals(taskId))
+                .toList();
+        int checked = (int) items.stream().filter(ChecklistItem::isChecked).count();
+        Task task = taskService.findTaskById(taskId);
+        assertThat(task.getChecklistTotal()).isEqualTo(ITEMS);
+        assertThat(task.getChecklistChecked()).isEqualTo(checked);
+        assertThat(task.getStatus()).isEqualTo(checked == 0 ? TaskStatus.TODO
+                : checked == ITEMS ? TaskStatus.DONE : TaskStatus.DOING);
+    }
+
+    private Long createTaskWithChecklist(int items) {
+        Project project = new Project();
+        project.setName("Concorrência");
+        project = projectService.createProject(project);
+        List<String> texts = IntStream.range(0, items).mapToObj(i -> "Item " + i).toList();
+        return bulkTaskService.applyTaskOperations(project.getId(), List.of(
+                new BulkTaskOperationDTO(BulkOperationType.CREATE, null, "Tarefa disputada", null, null, null, null, texts)))
+                .results().get(0).id();
+    }
+}
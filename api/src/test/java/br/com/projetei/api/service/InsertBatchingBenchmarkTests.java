@@ -0,0 +1,195 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compara as idas ao banco (execuções JDBC: execute/executeUpdate/executeBatch...) de escritas em
+// massa com e sem JDBC batch. "Sem batch" (jdbcBatchSize = 1 na sessão) reproduz o comportamento
+// que tínhamos com IDENTITY: um INSERT executado por entidade. As reservas de IDs na tabela
+// id_generators usam um pool próprio (IdBlockConfig) e ficam fora da conta.
+@SpringBootTest
+@Import(InsertBatchingBenchmarkTests.RoundTripCounting.class)
+class InsertBatchingBenchmarkTests {
+
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+
+    private static final int TASKS = 200;
+    private static final int ITEMS_PER_TASK = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bulkTaskCreationUsesAFractionOfTheRoundTrips() {
+        Project project = inTransaction(null, em -> {
+            Project created = newProject();
+            em.persist(created);
+            return created;
+        });
+
+        Measurement unbatched = measure(1, em -> createTasks(em, project.getId()));
+        Measurement batched = measure(null, em -> createTasks(em, project.getId()));
+
+        report("criação de " + TASKS + " tarefas x " + ITEMS_PER_TASK + " itens", unbatched, batched);
+        assertThat(unbatched.roundTrips()).isGreaterThanOrEqualTo(TASKS * (ITEMS_PER_TASK + 1));
+        assertThat(batched.roundTrips()).isLessThan(unbatched.roundTrips() / 10);
+    }
+
+    @Test
+    void projectImportUsesAFractionOfTheRoundTrips() {
+        Measurement unbatched = measure(1, em -> em.persist(newProjectGraph()));
+        Measurement batched = measure(null, em -> em.persist(newProjectGraph()));
+
+        report("importação de projeto (" + TASKS + " tarefas com itens e comentários)", unbatched, batched);
+        assertThat(batched.roundTrips()).isLessThan(unbatched.roundTrips() / 10);
+    }
+
+    private void createTasks(EntityManager em, Long projectId) {
+        Project project = em.getReference(Project.class, projectId);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = newTask(project, i);
+            em.persist(task);
+        }
+    }
+
+    private Project newProjectGraph() {
+        Project project = newProject();
+        project.setTasks(new ArrayList<>());
+        for (int i = 0; i < TASKS; i++) {
+            Task task = newTask(project, i);
+            Comment comment = new Comment();
+            comment.setText("Comentário " + i);
+            comment.setAuthorName("Importação");
+            comment.setCreatedAt(LocalDateTime.now());
+            comment.setTask(task);
+            task.getComments().add(comment);
+            project.getTasks().add(task);
+        }
+        return project;
+    }
+
+    private static Project newProject() {
+        Project project = new Project();
+        project.setName("Benchmark");
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        return project;
+    }
+
+    private static Task newTask(Project project, int index) {
+        Task task = new Task();
+        task.setTitle("Tarefa " + index);
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task.setChecklist(new ArrayList<>());
+        task.setComments(new ArrayList<>());
+        for (int j = 0; j < ITEMS_PER_TASK; j++) {
+            ChecklistItem item = new ChecklistItem();
+            item.setText("Item " + j);
+            item.setTask(task);
+            task.getChecklist().add(item);
+        }
+        return task;
+    }
+
+    private Measurement measure(Integer jdbcBatchSize, Consumer<EntityManager> work) {
+        long before = ROUND_TRIPS.get();
+        long start = System.nanoTime();
+        inTransaction(jdbcBatchSize, em -> {
+            work.accept(em);
+            return null;
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new Measurement(ROUND_TRIPS.get() - before, elapsedMillis);
+    }
+
+    private <T> T inTransaction(Integer jdbcBatchSize, Function<EntityManager, T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            T result = work.apply(entityManager);
+            entityManager.flush();
+            return result;
+        });
+    }
+
+    private static void report(String scenario, Measurement unbatched, Measurement batched) {
+        System.out.printf("%n[benchmark] %s%n  sem batch: %6d idas ao banco  %5d ms%n  com batch: %6d idas ao banco  %5d ms%n",
+                scenario, unbatched.roundTrips(), unbatched.elapsedMillis(), batched.roundTrips(), batched.elapsedMillis());
+    }
+
+    private record Measurement(long roundTrips, long elapsedMillis) {}
+
+    // Envolve o DataSource para contar cada execução de statement (cada uma é uma ida ao banco).
+    @TestConfiguration
+    static class RoundTripCounting {
+
+        @Bean
+        static BeanPostProcessor roundTripCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return (Connection) counting(Connection.class, super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Object counting(Class<?> type, Object target) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    ROUND_TRIPS.incrementAndGet();
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        return counting(method.getReturnType(), result);
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.ProjectBoardDTO;
+import br.com.projetei.api.dto.ProjectDetailsDTO;
+import br.com.projetei.api.dto.UpdateChecklistItemDTO;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Comment;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskPriority;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProjectBoardLoadingTests {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void boardLoadUsesSameNumberOfQueriesRegardlessOfTaskCount() throws Exception {
+        Project small = createProjectWithTasks(3);
+        Project large = createProjectWithTasks(60);
+
+        long smallQueries = countQueriesToLoadAndSerialize(small.getCode());
+        long largeQueries = countQueriesToLoadAndSerialize(large.getCode());
+
+        assertThat(smallQueries).isLessThanOrEqualTo(3);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+    }
+
+    @Test
+    void boardLoadReturnsWholeGraph() {
+        Project project = createProjectWithTasks(5);
+
+        ProjectDetailsDTO board = projectService.findProjectBoardById(project.getId());
+
+        assertThat(board.tasks()).hasSize(5);
+        assertThat(board.tasks()).allSatisfy(task -> {
+            assertThat(task.checklist()).hasSize(2);
+            assertThat(task.commentCount()).isEqualTo(2);
+            assertThat(task.latestComments()).hasSize(2);
+        });
+    }
+
+    @Test
+    void boardSummaryCarriesOnlyCardFieldsAndChecklistProgress() {
+        Project project = createProjectWithTasks(4);
+        UpdateChecklistItemDTO check = new UpdateChecklistItemDTO();
+        check.setChecked(true);
+        taskService.updateChecklistItem(project.getTasks().get(0).getChecklist().get(0).getId(), check);
+
+        ProjectBoardDTO board = projectService.findProjectBoardSummary(project.getId());
+
+        assertThat(board.code()).isEqualTo(project.getCode());
+        assertThat(board.tasks()).hasSize(4);
+        assertThat(board.tasks()).allSatisfy(card -> assertThat(card.totalCount()).isEqualTo(2));
+        assertThat(board.tasks().get(0).checkedCount()).isEqualTo(1);
+        assertThat(board.tasks().get(1).checkedCount()).isZero();
+    }
+
+    // Carrega e serializa fora de uma transação: se alguma coleção ficasse lazy,
+    // o Jackson lançaria LazyInitializationException em vez de disparar novas consultas.
+    private long countQueriesToLoadAndSerialize(String code) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProjectDetailsDTO board = projectService.findProjectBoardByCode(code);
+        objectMapper.writeValueAsString(board);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Project createProjectWithTasks(int taskCount) {
+        Project project = new Project();
+        project.setName("Projeto com " + taskCount + " tarefas");
+        project.setCode(UUID.randomUUID().toString().substring(0, 8));
+        project.setTasks(new ArrayList<>());
+
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task();
+            task.setTitle("Tarefa " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setProject(project);
+            task.setChecklist(new ArrayList<>());
+            task.setComments(new ArrayList<>());
+
+            for (int j = 0; j < 2; j++) {
+                ChecklistItem item = new ChecklistItem();
+                item.setText("Item " + j);
+                item.setTask(task);
+                task.getChecklist().add(item);
+
+                Comment comment = new Comment();
+                comment.setText("Comentário " + j);
+                comment.setAuthorName("Tester");
+                comment.setCreatedAt(LocalDateTime.now());
+                comment.setTask(task);
+                task.getComments().add(comment);
+            }
+            project.getTasks().add(task);
+        }
+        return projectRepository.save(project);
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.dto.CommentDTO;
+import br.com.projetei.api.dto.CreateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateChecklistItemDTO;
+import br.com.projetei.api.dto.UpdateProjectDTO;
+import br.com.projetei.api.metrics.SqlStatementCounter;
+import br.com.projetei.api.metrics.SqlStatements;
+import br.com.projetei.api.model.ChecklistItem;
+import br.com.projetei.api.model.Project;
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import br.com.projetei.api.repository.ProjectRepository;
+import br.com.projetei.api.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cache de segundo nível: leituras por ID sem ir ao banco, e nenhuma alteração (dos três serviços)
+// deixando uma versão velha no cache. Cada leitura roda numa transação nova (contexto vazio).
+@SpringBootTest
+class SecondLevelCacheTests {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findByIdIsServedFromCacheAndRevisionBumpsOnlyInvalidateTheChangedProject() {
+        Project changed = newProject("Alterado");
+        Project untouched = newProject("Intocado");
+        read(() -> projectRepository.findById(changed.getId()).orElseThrow());
+        read(() -> projectRepository.findById(untouched.getId()).orElseThrow());
+
+        assertThat(SqlStatements.during(statementCounter, () -> read(() -> projectRepository.findById(changed.getId()))))
+                .isZero();
+
+        Task task = taskService.createTask(changed.getId(), newTask("Nova"));
+        long revision = projectRepository.findRevisionById(changed.getId()).orElseThrow();
+
+        assertThat(read(() -> projectRepository.findById(changed.getId()).orElseThrow().getRevision())).isEqualTo(revision);
+        assertThat(SqlStatements.during(statementCounter, () -> read(() -> projectRepository.findById(untouched.getId()))))
+                .isZero();
+
+        // Edição do projeto (nome + revisão) e comentário (só revisão): sempre o estado do banco.
+        UpdateProjectDTO rename = new UpdateProjectDTO();
+        rename.setName("Renomeado");
+        projectService.updateProject(changed.getId(), rename);
+        CommentDTO comment = new CommentDTO();
+        comment.setText("Oi");
+        comment.setAuthorName("Tester");
+        commentService.addCommentToTask(task.getId(), comment);
+
+        Project cached = read(() -> projectRepository.findById(changed.getId()).orElseThrow());
+        assertThat(cached.getName()).isEqualTo("Renomeado");
+        assertThat(cached.getRevision()).isEqualTo(projectRepository.findRevisionById(changed.getId()).orElseThrow());
+    }
+
+    @Test
+    void checklistChangesKeepCachedTaskAndChecklistConsistent() {
+        Project project = newProject("Checklist");
+        Task task = taskService.createTask(project.getId(), newTask("Com itens"));
+        ChecklistItem first = addItem(task.getId(), "um");
+        addItem(task.getId(), "dois");
+        assertChecklist(task.getId(), 2, 0, TaskStatus.TODO);
+
+        // Lido duas vezes: a segunda vem toda do cache (tarefa, lista e itens).
+        assertThat(SqlStatements.during(statementCounter, () -> assertChecklist(task.getId(), 2, 0, TaskStatus.TODO))).isZero();
+
+        UpdateChecklistItemDTO check = new UpdateChecklistItemDTO();
+        check.setChecked(true);
+        taskService.updateChecklistItem(first.getId(), check);
+        assertChecklist(task.getId(), 2, 1, TaskStatus.DOING);
+
+        addItem(task.getId(), "três");
+        assertChecklist(task.getId(), 3, 1, TaskStatus.DOING);
+
+        taskService.deleteChecklistItem(first.getId());
+        assertChecklist(task.getId(), 2, 0, TaskStatus.TODO);
+    }
+
+    private void assertChecklist(Long taskId, int total, int checked, TaskStatus status) {
+        read(() -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            assertThat(task.getChecklistTotal()).isEqualTo(total);
+            assertThat(task.getChecklistChecked()).isEqualTo(checked);
+            assertThat(task.getStatus()).isEqualTo(status);
+            List<ChecklistItem> items = task.getChecklist();
+            assertThat(items).hasSize(total);
+            assertThat(items.stream().filter(ChecklistItem::isChecked)).hasSize(checked);
+            return task;
+        });
+    }
+
+    private <T> T read(Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> work.get());
+    }
+
+    private ChecklistItem addItem(Long taskId, String text) {
+        CreateChecklistItemDTO dto = new CreateChecklistItemDTO();
+        dto.setText(text);
+        return taskService.addChecklistItemToTask(taskId, dto);
+    }
+
+    private Project newProject(String name) {
+        Project project = new Project();
+        project.setName(name);
+        return projectService.createProject(project);
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+}
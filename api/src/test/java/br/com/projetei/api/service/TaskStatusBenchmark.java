@@ -0,0 +1,56 @@
+package br.com.projetei.api.service;
+
+import br.com.projetei.api.model.Task;
+import br.com.projetei.api.model.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Recalculo do status a partir dos contadores do checklist (TaskService.recalculateTaskStatus).
+// Fica no pacote do serviço porque o método é package-private. Cada chamada passa pelos três
+// resultados possíveis (nenhum item marcado, alguns, todos) e sempre grava um status novo.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskStatusBenchmark {
+
+    @Param({"1", "10", "1000"})
+    public int checklistTotal;
+
+    private Task[] tasks;
+
+    @Setup
+    public void setUp() {
+        int[] checked = {0, checklistTotal / 2 + 1, checklistTotal};
+        tasks = new Task[checked.length];
+        for (int i = 0; i < checked.length; i++) {
+            Task task = new Task();
+            task.setChecklistTotal(checklistTotal);
+            task.setChecklistChecked(Math.min(checked[i], checklistTotal));
+            tasks[i] = task;
+        }
+    }
+
+    @Benchmark
+    public void recalculateTaskStatus(Blackhole blackhole) {
+        for (Task task : tasks) {
+            task.setStatus(task.getStatus() == TaskStatus.DOING ? TaskStatus.TODO : TaskStatus.DOING);
+            TaskService.recalculateTaskStatus(task);
+            blackhole.consume(task.getStatus());
+        }
+    }
+}
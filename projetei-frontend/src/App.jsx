@@ -7,7 +7,8 @@ import NewProjectModal from './components/NewProjectModal.jsx';
 import ProjectView from './pages/ProjectView.jsx';
 import ProjectDetailModal from './components/ProjectDetailModal.jsx';
 import { fetchProjects, createProject } from './services/apiService.js';
-import { saveToMyProjects } from './utils/myProjects.js';
+import { readMyProjects, saveToMyProjects } from './utils/myProjects.js';
+import { isDevMode } from './devMode';
 
 
 function App() {
@@ -24,8 +25,9 @@ function App() {
     const projectCodeMatch = location.pathname.match(/\/projects\/(.*)/);
     const projectCode = projectCodeMatch ? projectCodeMatch[1] : null;
 
+    // Fora do modo dev o Dashboard só mostra "Meus Projetos": só eles são buscados.
     const loadProjects = () => {
-        fetchProjects().then((data) => setProjects(data));
+        fetchProjects(isDevMode() ? undefined : readMyProjects()).then((data) => setProjects(data));
     };
 
     useEffect(() => {
@@ -36,16 +38,24 @@ function App() {
     useEffect(() => {
         const onChanged = () => loadProjects();
         const onPageShow = () => loadProjects();
+        // "Meus Projetos" alterado em outra aba: a lista buscada muda junto.
+        const onStorage = (e) => {
+            if (e.key === 'projetei.myProjects') loadProjects();
+        };
         const onVisibility = () => {
             if (document.visibilityState === 'visible') loadProjects();
         };
 
         window.addEventListener('projects:changed', onChanged);
+        window.addEventListener('devmode:changed', onChanged);
+        window.addEventListener('storage', onStorage);
         window.addEventListener('pageshow', onPageShow);
         document.addEventListener('visibilitychange', onVisibility);
 
         return () => {
             window.removeEventListener('projects:changed', onChanged);
+            window.removeEventListener('devmode:changed', onChanged);
+            window.removeEventListener('storage', onStorage);
             window.removeEventListener('pageshow', onPageShow);
             document.removeEventListener('visibilitychange', onVisibility);
         };
@@ -5,10 +5,10 @@ import ConfirmModal from './ConfirmModal.jsx';
 
 const MY_KEY = 'projetei.myProjects';
 
+// project é um resumo de POST /projects/summaries: as contagens já vêm prontas do backend.
 function calcCounts(project) {
-    const tasks = Array.isArray(project?.tasks) ? project.tasks : [];
-    const total = tasks.length;
-    const done = tasks.filter(t => String(t?.status).toUpperCase() === 'DONE').length;
+    const total = Number(project?.totalTasks) || 0;
+    const done = Number(project?.done) || 0;
     const percent = total ? Math.round((done / total) * 100) : 0;
     return { total, done, percent };
 }
@@ -1,7 +1,7 @@
 import { useState, useEffect } from 'react';
 import './TaskDetailModal.css';
 import { FaPencilAlt, FaCheck, FaTimes } from 'react-icons/fa';
-import {deleteTask} from "../services/apiService.js";
+import {deleteTask, fetchTaskComments} from "../services/apiService.js";
 import ConfirmModal from './ConfirmModal.jsx';
 
 
@@ -42,6 +42,11 @@ function TaskDetailModal({
     const [editingField, setEditingField] = useState(null);
     const [tempValue, setTempValue] = useState('');
 
+    // Comentários anteriores aos últimos que vêm na tarefa, carregados sob demanda (do mais antigo em diante)
+    const [olderComments, setOlderComments] = useState([]);
+    const [olderCursor, setOlderCursor] = useState(null);
+    const [loadingOlder, setLoadingOlder] = useState(false);
+
     // Inicializa com o valor salvo no localStorage ou vazio
     const [authorName, setAuthorName] = useState(localStorage.getItem('commentAuthorName') || '');
 
@@ -55,6 +60,11 @@ function TaskDetailModal({
         }
     }, [task]);
 
+    useEffect(() => {
+        setOlderComments([]);
+        setOlderCursor(null);
+    }, [task?.id]);
+
     if (!task) {
         return null;
     }
@@ -94,6 +104,29 @@ function TaskDetailModal({
         setNewCommentText('');
     };
 
+    const latestComments = task.latestComments || [];
+    const latestIds = new Set(latestComments.map(c => c.id));
+    const comments = [...olderComments.filter(c => !latestIds.has(c.id)), ...latestComments];
+    const hiddenComments = (task.commentCount || 0) - comments.length;
+
+    const handleLoadOlderComments = async () => {
+        try {
+            setLoadingOlder(true);
+            const page = await fetchTaskComments(task.id, { after: olderCursor });
+            setOlderComments(prev => [...prev, ...page.comments]);
+            setOlderCursor(page.next);
+        } catch (err) {
+            console.error('Erro ao carregar comentários:', err);
+        } finally {
+            setLoadingOlder(false);
+        }
+    };
+
+    const handleCommentDeleteClick = (commentId) => {
+        setOlderComments(prev => prev.filter(c => c.id !== commentId));
+        onCommentDelete(commentId);
+    };
+
     const handleChecklistSubmit = (e) => {
         e.preventDefault();
         if (!newChecklistItemText.trim()) return;
@@ -117,6 +150,7 @@ function TaskDetailModal({
 
         if (editingField.startsWith('comment-')) {
             const commentId = editingField.split('-')[1];
+            setOlderComments(prev => prev.map(c => String(c.id) === commentId ? { ...c, text: tempValue } : c));
             onCommentUpdate(commentId, { text: tempValue });
         } else if (editingField.startsWith('checklistItem-')) {
             const itemId = editingField.split('-')[1];
@@ -307,7 +341,12 @@ function TaskDetailModal({
                         <div className="comments-section">
                             <label>Comentários</label>
                             <div className="comments-list">
-                                {task.comments && task.comments.map(comment => {
+                                {hiddenComments > 0 && (
+                                    <button type="button" onClick={handleLoadOlderComments} disabled={loadingOlder} className="btn btn-secondary btn-sm">
+                                        {loadingOlder ? 'Carregando...' : `Ver comentários anteriores (${hiddenComments})`}
+                                    </button>
+                                )}
+                                {comments.map(comment => {
                                     const isEditingComment = editingField === `comment-${comment.id}`;
                                     return (
                                         <div key={comment.id} className="comment">
@@ -328,14 +367,14 @@ function TaskDetailModal({
                                                     <p>{comment.text}</p>
                                                     <div className="comment-actions">
                                                         <button onClick={() => handleEditClick(`comment-${comment.id}`, comment.text)} className="action-btn edit-btn"><FaPencilAlt /></button>
-                                                        <button onClick={() => onCommentDelete(comment.id)} className="action-btn delete-item-btn">×</button>
+                                                        <button onClick={() => handleCommentDeleteClick(comment.id)} className="action-btn delete-item-btn">×</button>
                                                     </div>
                                                 </div>
                                             )}
                                         </div>
                                     );
                                 })}
-                                {(!task.comments || task.comments.length === 0) && (
+                                {comments.length === 0 && (
                                     <p className="no-comments">Nenhum comentário ainda.</p>
                                 )}
                             </div>
@@ -14,6 +14,7 @@ import {
     updateComment,
     deleteComment,
     addTaskToProject,
+    subscribeToProjectEvents,
 } from '../services/apiService';
 
 import KanbanColumn from '../components/KanbanColumn.jsx';
@@ -60,6 +61,54 @@ function ProjectView() {
         loadProject();
     }, [projectCode]);
 
+    const revisionRef = useRef(null);
+    useEffect(() => {
+        revisionRef.current = project?.revision ?? null;
+    }, [project]);
+
+    // --- Atualizações em tempo real (status, checklist e novos comentários vindos de outros usuários) ---
+    useEffect(() => {
+        const applyEvent = (task, ev) => {
+            if (task.id !== ev.taskId) return task;
+            switch (ev.type) {
+                case 'TASK_STATUS':
+                    return { ...task, status: ev.status };
+                case 'CHECKLIST_ITEM':
+                    return {
+                        ...task,
+                        checklist: (task.checklist || []).map((i) =>
+                            i.id === ev.checklistItemId ? { ...i, checked: ev.checked } : i
+                        ),
+                    };
+                case 'COMMENT_ADDED':
+                    // A tarefa guarda só os últimos comentários; o novo entra no fim e o total sobe.
+                    if ((task.latestComments || []).some((c) => c.id === ev.comment.id)) return task;
+                    return {
+                        ...task,
+                        commentCount: (task.commentCount || 0) + 1,
+                        latestComments: [...(task.latestComments || []), ev.comment].slice(-3),
+                    };
+                default:
+                    return task;
+            }
+        };
+
+        return subscribeToProjectEvents(projectCode, {
+            // Se o quadro em tela é mais antigo que a revisão atual (ex.: reconexão), recarrega.
+            onReady: ({ revision }) => {
+                if (revisionRef.current != null && revisionRef.current < revision) loadProject();
+            },
+            // A revisão do quadro em tela não muda aqui: os lotes só trazem status, checklist e comentários
+            // novos, e o que ficou de fora (edições, criações, exclusões) só chega recarregando o quadro.
+            onBoard: ({ events }) =>
+                setProject((prev) => {
+                    if (!prev) return prev;
+                    const tasks = (prev.tasks || []).map((t) => events.reduce(applyEvent, t));
+                    return { ...prev, tasks };
+                }),
+        });
+    }, [projectCode]); // eslint-disable-line react-hooks/exhaustive-deps
+
     // Mantém modal de tarefa sincronizado quando o objeto project muda
     useEffect(() => {
         if (project && selectedTask) {
@@ -32,14 +32,61 @@ async function http(path, { method = 'GET', body, headers } = {}) {
 }
 
 /* ===================== Projects ===================== */
-export function fetchProjects() {
-    return http('/projects');
+// Limite de projetos por chamada de POST /projects/summaries (MAX_SUMMARIES no backend).
+const SUMMARIES_BATCH = 200;
+
+// Cartões do Dashboard: nome, código, descrição, prazo e contagem de tarefas por status
+// ({ totalTasks, todo, doing, done }), sem trazer as tarefas.
+// keys: [{ id, code }] (ex.: "Meus Projetos"); sem keys, todos os projetos (modo dev).
+export async function fetchProjects(keys) {
+    const wanted = keys ?? (await fetchAllProjectKeys());
+    const batches = [];
+    for (let i = 0; i < wanted.length; i += SUMMARIES_BATCH) {
+        batches.push(wanted.slice(i, i + SUMMARIES_BATCH));
+    }
+    const pages = await Promise.all(batches.map(fetchProjectSummaries));
+    return pages.flat();
+}
+
+// Prefere o código (é o que "Meus Projetos" guarda); o ID só quando não houver código.
+function fetchProjectSummaries(keys) {
+    const codes = [];
+    const ids = [];
+    keys.forEach((k) => {
+        const code = String(k?.code ?? '').trim();
+        const id = Number(k?.id);
+        if (code) codes.push(code);
+        else if (Number.isFinite(id) && id > 0) ids.push(id);
+    });
+    if (!codes.length && !ids.length) return Promise.resolve([]);
+    return http('/projects/summaries', { method: 'POST', body: { ids, codes } });
+}
+
+// ID e código de todos os projetos, em NDJSON (uma linha por projeto, sem as tarefas).
+async function fetchAllProjectKeys() {
+    const res = await fetch(`${API_BASE}/projects`, { headers: { Accept: 'application/x-ndjson' } });
+    if (!res.ok) throw new Error(`HTTP ${res.status} - ${res.statusText}`);
+    return (await res.text())
+        .split('\n')
+        .filter((line) => line.trim())
+        .map((line) => JSON.parse(line));
 }
 
 export function fetchProjectByCode(code) {
     return http(`/projects/by-code/${encodeURIComponent(code)}`);
 }
 
+// Acompanha o quadro em tempo real (SSE). O navegador reconecta sozinho se a conexão cair.
+// onReady recebe a revisão atual; onBoard recebe lotes { revision, events: [...] } (a revisão dos lotes
+// não é cursor: eles não trazem todos os tipos de alteração).
+// Retorna a função que encerra a conexão.
+export function subscribeToProjectEvents(code, { onReady, onBoard } = {}) {
+    const source = new EventSource(`${API_BASE}/projects/by-code/${encodeURIComponent(code)}/events`);
+    source.addEventListener('ready', (e) => onReady?.(JSON.parse(e.data)));
+    source.addEventListener('board', (e) => onBoard?.(JSON.parse(e.data)));
+    return () => source.close();
+}
+
 export function createProject(payload) {
     // payload: { name, dueDate, description? }
     return http('/projects', { method: 'POST', body: payload });
@@ -62,9 +109,19 @@ export function deleteProject(projectId) {
 }
 
 
-/* (Opcional) tarefas do projeto, se o backend expõe */
-export function fetchTasksByProject(projectId) {
-    return http(`/projects/${projectId}/tasks`);
+/* Tarefas do projeto. Filtros e ordenação rodam no backend, ex.:
+   { status: ['TODO', 'DOING'], priority: 'HIGH', overdue: true, sort: 'dueDate,desc', limit: 50, after }
+   Com limit, a resposta é uma página e o próximo cursor vem no header X-Next-Cursor. */
+export async function fetchTasksByProject(projectId, filters = {}) {
+    const params = new URLSearchParams();
+    Object.entries(filters).forEach(([key, value]) => {
+        if (value == null || value === '') return;
+        params.set(key, Array.isArray(value) ? value.join(',') : String(value));
+    });
+    const query = params.toString() ? `?${params}` : '';
+    const res = await fetch(`${API_BASE}/projects/${projectId}/tasks${query}`);
+    if (!res.ok) throw new Error(`HTTP ${res.status} - ${res.statusText}`);
+    return { tasks: await res.json(), next: res.headers.get('X-Next-Cursor') };
 }
 
 /* ===================== Tasks ===================== */
@@ -103,6 +160,15 @@ export function deleteChecklistItem(itemId) {
 }
 
 /* ===================== Comments ===================== */
+// A tarefa traz só os últimos comentários (latestComments) e o total (commentCount); o restante vem
+// daqui, em ordem cronológica, paginado por cursor (header X-Next-Cursor, como na lista de projetos).
+export async function fetchTaskComments(taskId, { after, limit = 50 } = {}) {
+    const query = after ? `?limit=${limit}&after=${encodeURIComponent(after)}` : `?limit=${limit}`;
+    const res = await fetch(`${API_BASE}/tasks/${taskId}/comments${query}`);
+    if (!res.ok) throw new Error(`HTTP ${res.status} - ${res.statusText}`);
+    return { comments: await res.json(), next: res.headers.get('X-Next-Cursor') };
+}
+
 export function addCommentToTask(taskId, comment) {
     // comment: { text, authorName? }
     return http(`/tasks/${taskId}/comments`, { method: 'POST', body: comment });